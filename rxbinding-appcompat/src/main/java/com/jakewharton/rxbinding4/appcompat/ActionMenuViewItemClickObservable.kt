@@ -12,6 +12,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable which emits the clicked menu item in `view`.
@@ -28,7 +29,8 @@ private class ActionMenuViewItemClickObservable(
   private val view: ActionMenuView
 ) : Observable<MenuItem>() {
 
-  override fun subscribeActual(observer: Observer<in MenuItem>) {
+  override fun subscribeActual(downstream: Observer<in MenuItem>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
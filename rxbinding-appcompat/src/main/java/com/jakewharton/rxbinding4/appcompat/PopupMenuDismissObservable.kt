@@ -6,6 +6,7 @@ package com.jakewharton.rxbinding4.appcompat
 import androidx.annotation.CheckResult
 import androidx.appcompat.widget.PopupMenu
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -29,7 +30,8 @@ private class PopupMenuDismissObservable(
   private val view: PopupMenu
 ) : Observable<Unit>() {
 
-  override fun subscribeActual(observer: Observer<in Unit>) {
+  override fun subscribeActual(downstream: Observer<in Unit>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
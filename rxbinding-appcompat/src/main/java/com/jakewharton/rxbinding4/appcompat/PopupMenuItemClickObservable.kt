@@ -8,6 +8,7 @@ import androidx.annotation.CheckResult
 import androidx.appcompat.widget.PopupMenu
 import androidx.appcompat.widget.PopupMenu.OnMenuItemClickListener
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -30,7 +31,8 @@ private class PopupMenuItemClickObservable(
   private val view: PopupMenu
 ) : Observable<MenuItem>() {
 
-  override fun subscribeActual(observer: Observer<in MenuItem>) {
+  override fun subscribeActual(downstream: Observer<in MenuItem>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
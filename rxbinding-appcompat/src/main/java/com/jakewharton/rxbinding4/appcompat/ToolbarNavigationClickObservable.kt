@@ -7,6 +7,7 @@ import android.view.View
 import androidx.annotation.CheckResult
 import androidx.appcompat.widget.Toolbar
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -30,7 +31,8 @@ private class ToolbarNavigationClickObservable(
   private val view: Toolbar
 ) : Observable<Unit>() {
 
-  override fun subscribeActual(observer: Observer<in Unit>) {
+  override fun subscribeActual(downstream: Observer<in Unit>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
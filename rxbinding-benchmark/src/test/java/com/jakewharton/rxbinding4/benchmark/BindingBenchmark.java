@@ -0,0 +1,235 @@
+package com.jakewharton.rxbinding4.benchmark;
+
+import com.jakewharton.rxbinding4.FloatObservable;
+import com.jakewharton.rxbinding4.FloatObserver;
+import com.jakewharton.rxbinding4.IntObservable;
+import com.jakewharton.rxbinding4.IntObserver;
+import com.jakewharton.rxbinding4.LongObservable;
+import com.jakewharton.rxbinding4.LongObserver;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures the cost of subscribing to, dispatching through, and disposing of a binding.
+ *
+ * <p>Each measurement is written as a tab-separated {@code name metric value unit} line to
+ * stdout and to the file named by the {@code rxbinding.benchmark.output} system property so
+ * that runs can be compared across commits.
+ *
+ * <p>Measurements run under Robolectric on a desktop JVM. Absolute numbers include the cost of
+ * Robolectric's shadows and are not representative of a device, but relative numbers between
+ * commits and between a binding and its {@linkplain #baseline raw listener baseline} are.
+ */
+final class BindingBenchmark {
+  private static final int ITERATIONS =
+      Integer.getInteger("rxbinding.benchmark.iterations", 20_000);
+  private static final int WARMUP_ITERATIONS = ITERATIONS / 4;
+  private static final String OUTPUT = System.getProperty("rxbinding.benchmark.output");
+
+  private static final com.sun.management.ThreadMXBean threads = threadMxBean();
+
+  /** Measure subscribe and dispose cost of {@code observable}. */
+  static void subscribe(String name, Observable<?> observable) {
+    CountingObserver observer = new CountingObserver();
+    measureSubscribe(name, () -> {
+      observable.subscribe(observer);
+      return observer.upstream;
+    });
+  }
+
+  /**
+   * Measure subscribe and dispose cost of {@code observable} and then the cost of each event
+   * caused by invoking {@code trigger} while subscribed.
+   */
+  static void dispatch(String name, Observable<?> observable, Runnable trigger) {
+    CountingObserver observer = new CountingObserver();
+    Subscriber subscriber = () -> {
+      observable.subscribe(observer);
+      return observer.upstream;
+    };
+    measureSubscribe(name, subscriber);
+    measureDispatch(name, subscriber, () -> observer.count, trigger);
+  }
+
+  /** Like {@link #dispatch(String, Observable, Runnable)} but for a primitive source. */
+  static void dispatch(String name, IntObservable source, Runnable trigger) {
+    CountingObserver observer = new CountingObserver();
+    Subscriber subscriber = () -> source.subscribe(observer);
+    measureSubscribe(name, subscriber);
+    measureDispatch(name, subscriber, () -> observer.count, trigger);
+  }
+
+  /** Like {@link #dispatch(String, Observable, Runnable)} but for a primitive source. */
+  static void dispatch(String name, FloatObservable source, Runnable trigger) {
+    CountingObserver observer = new CountingObserver();
+    Subscriber subscriber = () -> source.subscribe(observer);
+    measureSubscribe(name, subscriber);
+    measureDispatch(name, subscriber, () -> observer.count, trigger);
+  }
+
+  /** Like {@link #dispatch(String, Observable, Runnable)} but for a primitive source. */
+  static void dispatch(String name, LongObservable source, Runnable trigger) {
+    CountingObserver observer = new CountingObserver();
+    Subscriber subscriber = () -> source.subscribe(observer);
+    measureSubscribe(name, subscriber);
+    measureDispatch(name, subscriber, () -> observer.count, trigger);
+  }
+
+  private static void measureSubscribe(String name, Subscriber subscriber) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      subscriber.subscribe().dispose();
+    }
+
+    long subscribeNanos = 0;
+    long disposeNanos = 0;
+    long startBytes = allocatedBytes();
+    for (int i = 0; i < ITERATIONS; i++) {
+      long start = System.nanoTime();
+      Disposable disposable = subscriber.subscribe();
+      long subscribed = System.nanoTime();
+      disposable.dispose();
+      long disposed = System.nanoTime();
+      subscribeNanos += subscribed - start;
+      disposeNanos += disposed - subscribed;
+    }
+    long bytes = allocatedBytes() - startBytes;
+
+    report(name, "subscribe", (double) subscribeNanos / ITERATIONS, "ns/op");
+    report(name, "dispose", (double) disposeNanos / ITERATIONS, "ns/op");
+    if (threads != null) {
+      report(name, "subscribeAllocation", (double) bytes / ITERATIONS, "B/op");
+    }
+  }
+
+  private static void measureDispatch(String name, Subscriber subscriber, LongSupplier count,
+      Runnable trigger) {
+    Disposable disposable = subscriber.subscribe();
+    try {
+      for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+        trigger.run();
+      }
+      long events = count.getAsLong();
+      long startBytes = allocatedBytes();
+      long start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++) {
+        trigger.run();
+      }
+      long nanos = System.nanoTime() - start;
+      long bytes = allocatedBytes() - startBytes;
+      events = count.getAsLong() - events;
+
+      report(name, "dispatch", (double) nanos / ITERATIONS, "ns/op");
+      // Some triggers do not cause an event every time. Report the ratio so that a trigger which
+      // silently stops dispatching is visible in the results.
+      report(name, "events", (double) events / ITERATIONS, "events/op");
+      if (threads != null) {
+        report(name, "dispatchAllocation", (double) bytes / ITERATIONS, "B/op");
+      }
+    } finally {
+      disposable.dispose();
+    }
+  }
+
+  /**
+   * Measure the cost of invoking {@code trigger} with a raw listener installed instead of a
+   * binding. Compare with the {@code dispatch} metric of the equivalent binding.
+   */
+  static void baseline(String name, Runnable trigger) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      trigger.run();
+    }
+    long startBytes = allocatedBytes();
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      trigger.run();
+    }
+    long nanos = System.nanoTime() - start;
+    long bytes = allocatedBytes() - startBytes;
+
+    report(name, "dispatch", (double) nanos / ITERATIONS, "ns/op");
+    if (threads != null) {
+      report(name, "dispatchAllocation", (double) bytes / ITERATIONS, "B/op");
+    }
+  }
+
+  private static long allocatedBytes() {
+    return threads != null ? threads.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+  }
+
+  private static com.sun.management.ThreadMXBean threadMxBean() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+      if (sunBean.isThreadAllocatedMemorySupported()) {
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+        return sunBean;
+      }
+    }
+    return null;
+  }
+
+  private static void report(String name, String metric, double value, String unit) {
+    String line = String.format(Locale.US, "%s\t%s\t%.2f\t%s", name, metric, value, unit);
+    System.out.println(line);
+    if (OUTPUT != null) {
+      File file = new File(OUTPUT);
+      file.getParentFile().mkdirs();
+      try (Writer writer = new FileWriter(file, true)) {
+        writer.write(line);
+        writer.write('\n');
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  private interface Subscriber {
+    Disposable subscribe();
+  }
+
+  /** An observer which can be re-subscribed without allocating. */
+  private static final class CountingObserver
+      implements Observer<Object>, IntObserver, LongObserver, FloatObserver {
+    Disposable upstream;
+    long count;
+
+    @Override public void onSubscribe(Disposable d) {
+      upstream = d;
+    }
+
+    @Override public void onNext(Object value) {
+      count++;
+    }
+
+    @Override public void onNext(int value) {
+      count++;
+    }
+
+    @Override public void onNext(long value) {
+      count++;
+    }
+
+    @Override public void onNext(float value) {
+      count++;
+    }
+
+    @Override public void onError(Throwable e) {
+      throw new AssertionError(e);
+    }
+
+    @Override public void onComplete() {
+    }
+  }
+
+  private BindingBenchmark() {
+    throw new AssertionError("No instances.");
+  }
+}
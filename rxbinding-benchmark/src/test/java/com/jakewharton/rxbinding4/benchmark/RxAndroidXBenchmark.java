@@ -0,0 +1,119 @@
+package com.jakewharton.rxbinding4.benchmark;
+
+import android.content.Context;
+import android.view.ContextThemeWrapper;
+import android.view.Gravity;
+import android.view.View;
+import androidx.appcompat.R;
+import androidx.appcompat.widget.ActionMenuView;
+import androidx.appcompat.widget.PopupMenu;
+import androidx.appcompat.widget.SearchView;
+import androidx.appcompat.widget.Toolbar;
+import androidx.core.widget.NestedScrollView;
+import androidx.drawerlayout.widget.DrawerLayout;
+import androidx.slidingpanelayout.widget.SlidingPaneLayout;
+import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
+import androidx.test.core.app.ApplicationProvider;
+import com.jakewharton.rxbinding4.appcompat.RxActionMenuView;
+import com.jakewharton.rxbinding4.appcompat.RxPopupMenu;
+import com.jakewharton.rxbinding4.appcompat.RxSearchView;
+import com.jakewharton.rxbinding4.appcompat.RxToolbar;
+import com.jakewharton.rxbinding4.core.RxNestedScrollView;
+import com.jakewharton.rxbinding4.drawerlayout.RxDrawerLayout;
+import com.jakewharton.rxbinding4.slidingpanelayout.RxSlidingPaneLayout;
+import com.jakewharton.rxbinding4.swiperefreshlayout.RxSwipeRefreshLayout;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static android.view.View.MeasureSpec.EXACTLY;
+import static android.view.View.MeasureSpec.makeMeasureSpec;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.dispatch;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.subscribe;
+
+/** Benchmarks for the bindings of the smaller AndroidX modules. */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public final class RxAndroidXBenchmark {
+  private final Context context = new ContextThemeWrapper(
+      ApplicationProvider.getApplicationContext(), R.style.Theme_AppCompat);
+
+  @Test public void nestedScrollChangeEvents() {
+    NestedScrollView view = nestedScrollView();
+    dispatch("RxNestedScrollView.scrollChangeEvents", RxNestedScrollView.scrollChangeEvents(view),
+        () -> view.scrollTo(0, view.getScrollY() == 0 ? 10 : 0));
+  }
+
+  @Test public void nestedScrollVelocities() {
+    NestedScrollView view = nestedScrollView();
+    dispatch("RxNestedScrollView.scrollVelocities", RxNestedScrollView.scrollVelocities(view),
+        () -> view.scrollTo(0, view.getScrollY() == 0 ? 10 : 0));
+  }
+
+  @Test public void queryTextChanges() {
+    SearchView view = new SearchView(context);
+    dispatch("RxSearchView.queryTextChanges", RxSearchView.queryTextChanges(view),
+        () -> view.setQuery(view.getQuery().length() == 0 ? "a" : "", false));
+  }
+
+  @Test public void queryTextChangeEvents() {
+    SearchView view = new SearchView(context);
+    dispatch("RxSearchView.queryTextChangeEvents", RxSearchView.queryTextChangeEvents(view),
+        () -> view.setQuery(view.getQuery().length() == 0 ? "a" : "", false));
+  }
+
+  @Test public void toolbarItemClicks() {
+    Toolbar view = new Toolbar(context);
+    subscribe("RxToolbar.itemClicks", RxToolbar.itemClicks(view));
+  }
+
+  @Test public void toolbarNavigationClicks() {
+    Toolbar view = new Toolbar(context);
+    subscribe("RxToolbar.navigationClicks", RxToolbar.navigationClicks(view));
+  }
+
+  @Test public void actionMenuViewItemClicks() {
+    ActionMenuView view = new ActionMenuView(context);
+    subscribe("RxActionMenuView.itemClicks", RxActionMenuView.itemClicks(view));
+  }
+
+  @Test public void popupMenuItemClicks() {
+    PopupMenu menu = new PopupMenu(context, new View(context));
+    subscribe("RxPopupMenu.itemClicks", RxPopupMenu.itemClicks(menu));
+  }
+
+  @Test public void popupMenuDismisses() {
+    PopupMenu menu = new PopupMenu(context, new View(context));
+    subscribe("RxPopupMenu.dismisses", RxPopupMenu.dismisses(menu));
+  }
+
+  @Test public void refreshes() {
+    SwipeRefreshLayout view = new SwipeRefreshLayout(context);
+    subscribe("RxSwipeRefreshLayout.refreshes", RxSwipeRefreshLayout.refreshes(view));
+  }
+
+  @Test public void drawerOpen() {
+    DrawerLayout view = new DrawerLayout(context);
+    subscribe("RxDrawerLayout.drawerOpen", RxDrawerLayout.drawerOpen(view, Gravity.START));
+  }
+
+  @Test public void panelSlides() {
+    SlidingPaneLayout view = new SlidingPaneLayout(context);
+    subscribe("RxSlidingPaneLayout.panelSlides", RxSlidingPaneLayout.panelSlides(view));
+  }
+
+  @Test public void panelOpens() {
+    SlidingPaneLayout view = new SlidingPaneLayout(context);
+    subscribe("RxSlidingPaneLayout.panelOpens", RxSlidingPaneLayout.panelOpens(view));
+  }
+
+  private NestedScrollView nestedScrollView() {
+    NestedScrollView view = new NestedScrollView(context);
+    View child = new View(context);
+    view.addView(child, new NestedScrollView.LayoutParams(100, 1000));
+    view.measure(makeMeasureSpec(100, EXACTLY), makeMeasureSpec(100, EXACTLY));
+    view.layout(0, 0, 100, 100);
+    return view;
+  }
+}
@@ -0,0 +1,58 @@
+package com.jakewharton.rxbinding4.benchmark;
+
+import android.content.Context;
+import android.view.ContextThemeWrapper;
+import android.view.KeyEvent;
+import androidx.leanback.R;
+import androidx.leanback.widget.SearchBar;
+import androidx.leanback.widget.SearchEditText;
+import androidx.test.core.app.ApplicationProvider;
+import com.jakewharton.rxbinding4.leanback.RxSearchBar;
+import com.jakewharton.rxbinding4.leanback.RxSearchEditText;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.dispatch;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public final class RxLeanbackBenchmark {
+  private final Context context = new ContextThemeWrapper(
+      ApplicationProvider.getApplicationContext(), R.style.Theme_Leanback);
+
+  @Test public void searchQueryChanges() {
+    SearchBar view = new SearchBar(context);
+    dispatch("RxSearchBar.searchQueryChanges", RxSearchBar.searchQueryChanges(view),
+        new Query(view));
+  }
+
+  @Test public void searchQueryChangeEvents() {
+    SearchBar view = new SearchBar(context);
+    dispatch("RxSearchBar.searchQueryChangeEvents", RxSearchBar.searchQueryChangeEvents(view),
+        new Query(view));
+  }
+
+  @Test public void keyboardDismisses() {
+    SearchEditText view = new SearchEditText(context);
+    KeyEvent event = new KeyEvent(KeyEvent.ACTION_DOWN, KeyEvent.KEYCODE_BACK);
+    dispatch("RxSearchEditText.keyboardDismisses", RxSearchEditText.keyboardDismisses(view),
+        () -> view.onKeyPreIme(KeyEvent.KEYCODE_BACK, event));
+  }
+
+  /** Alternates the query of a {@link SearchBar} so that every query is a change. */
+  private static final class Query implements Runnable {
+    private final SearchBar view;
+    private boolean typed;
+
+    Query(SearchBar view) {
+      this.view = view;
+    }
+
+    @Override public void run() {
+      typed = !typed;
+      view.setSearchQuery(typed ? "a" : "");
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.jakewharton.rxbinding4.benchmark;
+
+import android.content.Context;
+import android.view.ContextThemeWrapper;
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.material.R;
+import com.google.android.material.appbar.AppBarLayout;
+import com.google.android.material.chip.Chip;
+import com.google.android.material.tabs.TabLayout;
+import com.jakewharton.rxbinding4.material.RxAppBarLayout;
+import com.jakewharton.rxbinding4.material.RxChip;
+import com.jakewharton.rxbinding4.material.RxTabLayout;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.dispatch;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.subscribe;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public final class RxMaterialBenchmark {
+  private final Context context = new ContextThemeWrapper(
+      ApplicationProvider.getApplicationContext(), R.style.Theme_MaterialComponents);
+
+  @Test public void offsetChanges() {
+    AppBarLayout view = new AppBarLayout(context);
+    subscribe("RxAppBarLayout.offsetChanges", RxAppBarLayout.offsetChanges(view));
+  }
+
+  @Test public void tabSelections() {
+    TabLayout view = new TabLayout(context);
+    TabLayout.Tab first = view.newTab();
+    TabLayout.Tab second = view.newTab();
+    view.addTab(first);
+    view.addTab(second);
+    dispatch("RxTabLayout.selections", RxTabLayout.selections(view), () -> {
+      if (first.isSelected()) {
+        second.select();
+      } else {
+        first.select();
+      }
+    });
+  }
+
+  @Test public void closeIconClicks() {
+    Chip view = new Chip(context);
+    dispatch("RxChip.closeIconClicks", RxChip.closeIconClicks(view), view::performCloseIconClick);
+  }
+}
@@ -0,0 +1,145 @@
+package com.jakewharton.rxbinding4.benchmark;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+import com.jakewharton.rxbinding4.recyclerview.RxRecyclerView;
+import com.jakewharton.rxbinding4.recyclerview.RxRecyclerViewAdapter;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import static android.view.View.MeasureSpec.EXACTLY;
+import static android.view.View.MeasureSpec.makeMeasureSpec;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.baseline;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.dispatch;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.subscribe;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public final class RxRecyclerViewBenchmark {
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private final Adapter adapter = new Adapter();
+  private final RecyclerView view = new RecyclerView(context);
+
+  public RxRecyclerViewBenchmark() {
+    view.setLayoutManager(new LinearLayoutManager(context));
+    view.setAdapter(adapter);
+    view.measure(makeMeasureSpec(100, EXACTLY), makeMeasureSpec(100, EXACTLY));
+    view.layout(0, 0, 100, 100);
+  }
+
+  @Test public void scrollEvents() {
+    dispatch("RxRecyclerView.scrollEvents", RxRecyclerView.scrollEvents(view), new Scroll());
+  }
+
+  @Test public void mutableScrollEvents() {
+    dispatch("RxRecyclerView.mutableScrollEvents", RxRecyclerView.mutableScrollEvents(view),
+        new Scroll());
+  }
+
+  @Test public void scrollEventsBaseline() {
+    view.addOnScrollListener(new RecyclerView.OnScrollListener() {
+      @Override public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+      }
+    });
+    baseline("RxRecyclerView.scrollEvents", new Scroll());
+  }
+
+  @Test public void scrollVelocities() {
+    dispatch("RxRecyclerView.scrollVelocities", RxRecyclerView.scrollVelocities(view),
+        new Scroll());
+  }
+
+  @Test public void visiblePositionRanges() {
+    dispatch("RxRecyclerView.visiblePositionRanges", RxRecyclerView.visiblePositionRanges(view),
+        new Scroll());
+  }
+
+  @Test public void impressions() {
+    // Without a dwell time the impression of the item scrolled into view is due immediately.
+    // Run it after each scroll so that emission is measured and not only tracking.
+    Scroll scroll = new Scroll();
+    dispatch("RxRecyclerView.impressions", RxRecyclerView.impressions(view, 0.5f, 0L), () -> {
+      scroll.run();
+      ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+    });
+  }
+
+  @Test public void itemClicks() {
+    dispatch("RxRecyclerView.itemClicks", RxRecyclerView.itemClicks(view), new Tap());
+  }
+
+  @Test public void itemLongClicks() {
+    subscribe("RxRecyclerView.itemLongClicks", RxRecyclerView.itemLongClicks(view));
+  }
+
+  @Test public void scrollStateChanges() {
+    subscribe("RxRecyclerView.scrollStateChanges", RxRecyclerView.scrollStateChanges(view));
+  }
+
+  @Test public void flingEvents() {
+    subscribe("RxRecyclerView.flingEvents", RxRecyclerView.flingEvents(view));
+  }
+
+  @Test public void childAttachStateChangeEvents() {
+    subscribe("RxRecyclerView.childAttachStateChangeEvents",
+        RxRecyclerView.childAttachStateChangeEvents(view));
+  }
+
+  @Test public void dataChanges() {
+    dispatch("RxRecyclerViewAdapter.dataChanges", RxRecyclerViewAdapter.dataChanges(adapter),
+        adapter::notifyDataSetChanged);
+  }
+
+  /** Scrolls down and back up so that every scroll is a change. */
+  private final class Scroll implements Runnable {
+    private boolean down;
+
+    @Override public void run() {
+      down = !down;
+      view.scrollBy(0, down ? 10 : -10);
+    }
+  }
+
+  /** Taps the first item. The same events are reused, so no tap is ever a double tap. */
+  private final class Tap implements Runnable {
+    private final MotionEvent down;
+    private final MotionEvent up;
+
+    Tap() {
+      long now = SystemClock.uptimeMillis();
+      down = MotionEvent.obtain(now, now, MotionEvent.ACTION_DOWN, 10, 10, 0);
+      up = MotionEvent.obtain(now, now + 50, MotionEvent.ACTION_UP, 10, 10, 0);
+    }
+
+    @Override public void run() {
+      view.dispatchTouchEvent(down);
+      view.dispatchTouchEvent(up);
+    }
+  }
+
+  private static final class Adapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+    @NonNull @Override
+    public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+      View view = new View(parent.getContext());
+      view.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, 20));
+      return new RecyclerView.ViewHolder(view) {};
+    }
+
+    @Override public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+    }
+
+    @Override public int getItemCount() {
+      return 100;
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package com.jakewharton.rxbinding4.benchmark;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.view.GestureDetector;
+import android.view.KeyEvent;
+import android.view.MotionEvent;
+import android.view.View;
+import androidx.test.core.app.ApplicationProvider;
+import com.jakewharton.rxbinding4.view.RxView;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.baseline;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.dispatch;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.subscribe;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public final class RxViewBenchmark {
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private final View view = new View(context);
+
+  @Test public void clicks() {
+    dispatch("RxView.clicks", RxView.clicks(view), view::performClick);
+  }
+
+  @Test public void clicksBaseline() {
+    view.setOnClickListener(v -> {});
+    baseline("RxView.clicks", view::performClick);
+  }
+
+  @Test public void longClicks() {
+    dispatch("RxView.longClicks", RxView.longClicks(view), view::performLongClick);
+  }
+
+  @Test public void touches() {
+    MotionEvent event = touchEvent();
+    dispatch("RxView.touches", RxView.touches(view), () -> view.dispatchTouchEvent(event));
+  }
+
+  @Test public void touchesBaseline() {
+    MotionEvent event = touchEvent();
+    view.setOnTouchListener((v, e) -> true);
+    baseline("RxView.touches", () -> view.dispatchTouchEvent(event));
+  }
+
+  @Test public void touchSamples() {
+    MotionEvent event = touchEvent();
+    dispatch("RxView.touchSamples", RxView.touchSamples(view),
+        () -> view.dispatchTouchEvent(event));
+  }
+
+  @Test public void resampledTouches() {
+    MotionEvent event = touchEvent();
+    // Run the frame callback after each move so that every move is emitted.
+    dispatch("RxView.resampledTouches", RxView.resampledTouches(view), () -> {
+      view.dispatchTouchEvent(event);
+      ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+    });
+  }
+
+  @Test public void taps() {
+    dispatch("RxView.taps", RxView.taps(view), new Tap());
+  }
+
+  @Test public void tapsBaseline() {
+    GestureDetector detector =
+        new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
+          @Override public boolean onDown(MotionEvent e) {
+            return true;
+          }
+        });
+    view.setOnTouchListener((v, e) -> detector.onTouchEvent(e));
+    baseline("RxView.taps", new Tap());
+  }
+
+  @Test public void doubleTaps() {
+    subscribe("RxView.doubleTaps", RxView.doubleTaps(view));
+  }
+
+  @Test public void longPresses() {
+    subscribe("RxView.longPresses", RxView.longPresses(view));
+  }
+
+  @Test public void flings() {
+    subscribe("RxView.flings", RxView.flings(view));
+  }
+
+  @Test public void pinches() {
+    subscribe("RxView.pinches", RxView.pinches(view));
+  }
+
+  @Test public void rotations() {
+    subscribe("RxView.rotations", RxView.rotations(view));
+  }
+
+  @Test public void keys() {
+    KeyEvent event = new KeyEvent(KeyEvent.ACTION_DOWN, KeyEvent.KEYCODE_R);
+    dispatch("RxView.keys", RxView.keys(view), () -> view.dispatchKeyEvent(event));
+  }
+
+  @Test public void keysBaseline() {
+    KeyEvent event = new KeyEvent(KeyEvent.ACTION_DOWN, KeyEvent.KEYCODE_R);
+    view.setOnKeyListener((v, keyCode, e) -> true);
+    baseline("RxView.keys", () -> view.dispatchKeyEvent(event));
+  }
+
+  @Test public void layoutChangeEvents() {
+    dispatch("RxView.layoutChangeEvents", RxView.layoutChangeEvents(view), new Relayout());
+  }
+
+  @Test public void mutableLayoutChangeEvents() {
+    dispatch("RxView.mutableLayoutChangeEvents", RxView.mutableLayoutChangeEvents(view),
+        new Relayout());
+  }
+
+  @Test public void layoutChanges() {
+    dispatch("RxView.layoutChanges", RxView.layoutChanges(view), new Relayout());
+  }
+
+  @Test public void scrollChangeEvents() {
+    dispatch("RxView.scrollChangeEvents", RxView.scrollChangeEvents(view), new Rescroll());
+  }
+
+  @Test public void mutableScrollChangeEvents() {
+    dispatch("RxView.mutableScrollChangeEvents", RxView.mutableScrollChangeEvents(view),
+        new Rescroll());
+  }
+
+  @Test public void globalLayouts() {
+    dispatch("RxView.globalLayouts", RxView.globalLayouts(view),
+        () -> view.getViewTreeObserver().dispatchOnGlobalLayout());
+  }
+
+  @Test public void preDraws() {
+    dispatch("RxView.preDraws", RxView.preDraws(view, () -> true),
+        () -> view.getViewTreeObserver().dispatchOnPreDraw());
+  }
+
+  @Test public void draws() {
+    dispatch("RxView.draws", RxView.draws(view),
+        () -> view.getViewTreeObserver().dispatchOnDraw());
+  }
+
+  @Test public void focusChanges() {
+    subscribe("RxView.focusChanges", RxView.focusChanges(view));
+  }
+
+  @Test public void attaches() {
+    subscribe("RxView.attaches", RxView.attaches(view));
+  }
+
+  @Test public void detaches() {
+    subscribe("RxView.detaches", RxView.detaches(view));
+  }
+
+  @Test public void attachEvents() {
+    subscribe("RxView.attachEvents", RxView.attachEvents(view));
+  }
+
+  @Test public void hovers() {
+    subscribe("RxView.hovers", RxView.hovers(view));
+  }
+
+  @Test public void drags() {
+    subscribe("RxView.drags", RxView.drags(view));
+  }
+
+  @Test public void systemUiVisibilityChanges() {
+    subscribe("RxView.systemUiVisibilityChanges", RxView.systemUiVisibilityChanges(view));
+  }
+
+  private static MotionEvent touchEvent() {
+    long now = SystemClock.uptimeMillis();
+    return MotionEvent.obtain(now, now, MotionEvent.ACTION_MOVE, 10, 10, 0);
+  }
+
+  /**
+   * Taps {@link #view} and then runs the pending single tap confirmation. The same events are
+   * reused, so the down of each tap precedes the up of the last and is never a double tap.
+   */
+  private final class Tap implements Runnable {
+    private final MotionEvent down;
+    private final MotionEvent up;
+
+    Tap() {
+      long now = SystemClock.uptimeMillis();
+      down = MotionEvent.obtain(now, now, MotionEvent.ACTION_DOWN, 10, 10, 0);
+      up = MotionEvent.obtain(now, now + 50, MotionEvent.ACTION_UP, 10, 10, 0);
+    }
+
+    @Override public void run() {
+      view.dispatchTouchEvent(down);
+      view.dispatchTouchEvent(up);
+      ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+    }
+  }
+
+  /** Alternates the size of {@link #view} so that every layout is a change. */
+  private final class Relayout implements Runnable {
+    private boolean wide;
+
+    @Override public void run() {
+      wide = !wide;
+      view.layout(0, 0, wide ? 200 : 100, 100);
+    }
+  }
+
+  /** Alternates the scroll position of {@link #view} so that every scroll is a change. */
+  private final class Rescroll implements Runnable {
+    private boolean scrolled;
+
+    @Override public void run() {
+      scrolled = !scrolled;
+      view.scrollTo(0, scrolled ? 10 : 0);
+    }
+  }
+}
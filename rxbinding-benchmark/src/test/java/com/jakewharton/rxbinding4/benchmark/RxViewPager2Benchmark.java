@@ -0,0 +1,81 @@
+package com.jakewharton.rxbinding4.benchmark;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.viewpager2.widget.ViewPager2;
+import com.jakewharton.rxbinding4.viewpager2.RxViewPager2;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static android.view.View.MeasureSpec.EXACTLY;
+import static android.view.View.MeasureSpec.makeMeasureSpec;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.dispatch;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public final class RxViewPager2Benchmark {
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private final ViewPager2 view = new ViewPager2(context);
+
+  public RxViewPager2Benchmark() {
+    view.setAdapter(new Adapter());
+    view.measure(makeMeasureSpec(100, EXACTLY), makeMeasureSpec(100, EXACTLY));
+    view.layout(0, 0, 100, 100);
+  }
+
+  @Test public void pageSelections() {
+    dispatch("RxViewPager2.pageSelections", RxViewPager2.pageSelections(view), new Swipe());
+  }
+
+  @Test public void primitivePageSelections() {
+    dispatch("RxViewPager2.primitivePageSelections", RxViewPager2.primitivePageSelections(view),
+        new Swipe());
+  }
+
+  @Test public void pageScrollEvents() {
+    dispatch("RxViewPager2.pageScrollEvents", RxViewPager2.pageScrollEvents(view), new Swipe());
+  }
+
+  @Test public void mutablePageScrollEvents() {
+    dispatch("RxViewPager2.mutablePageScrollEvents", RxViewPager2.mutablePageScrollEvents(view),
+        new Swipe());
+  }
+
+  @Test public void pageScrollStateChanges() {
+    dispatch("RxViewPager2.pageScrollStateChanges", RxViewPager2.pageScrollStateChanges(view),
+        new Swipe());
+  }
+
+  /** Alternates between the first two pages without animation. */
+  private final class Swipe implements Runnable {
+    private int page;
+
+    @Override public void run() {
+      page = 1 - page;
+      view.setCurrentItem(page, false);
+    }
+  }
+
+  private static final class Adapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+    @NonNull @Override
+    public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+      View view = new View(parent.getContext());
+      view.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT,
+          ViewGroup.LayoutParams.MATCH_PARENT));
+      return new RecyclerView.ViewHolder(view) {};
+    }
+
+    @Override public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+    }
+
+    @Override public int getItemCount() {
+      return 2;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.jakewharton.rxbinding4.benchmark;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.viewpager.widget.PagerAdapter;
+import androidx.viewpager.widget.ViewPager;
+import com.jakewharton.rxbinding4.viewpager.RxViewPager;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static android.view.View.MeasureSpec.EXACTLY;
+import static android.view.View.MeasureSpec.makeMeasureSpec;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.dispatch;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public final class RxViewPagerBenchmark {
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private final ViewPager view = new ViewPager(context);
+
+  public RxViewPagerBenchmark() {
+    view.setAdapter(new Adapter());
+    view.measure(makeMeasureSpec(100, EXACTLY), makeMeasureSpec(100, EXACTLY));
+    view.layout(0, 0, 100, 100);
+  }
+
+  @Test public void pageSelections() {
+    dispatch("RxViewPager.pageSelections", RxViewPager.pageSelections(view), new Swipe());
+  }
+
+  @Test public void primitivePageSelections() {
+    dispatch("RxViewPager.primitivePageSelections", RxViewPager.primitivePageSelections(view),
+        new Swipe());
+  }
+
+  @Test public void pageScrollEvents() {
+    dispatch("RxViewPager.pageScrollEvents", RxViewPager.pageScrollEvents(view), new Swipe());
+  }
+
+  @Test public void mutablePageScrollEvents() {
+    dispatch("RxViewPager.mutablePageScrollEvents", RxViewPager.mutablePageScrollEvents(view),
+        new Swipe());
+  }
+
+  @Test public void pageScrollStateChanges() {
+    dispatch("RxViewPager.pageScrollStateChanges", RxViewPager.pageScrollStateChanges(view),
+        new Swipe());
+  }
+
+  /** Alternates between the first two pages without animation. */
+  private final class Swipe implements Runnable {
+    private int page;
+
+    @Override public void run() {
+      page = 1 - page;
+      view.setCurrentItem(page, false);
+    }
+  }
+
+  private static final class Adapter extends PagerAdapter {
+    @NonNull @Override public Object instantiateItem(@NonNull ViewGroup container, int position) {
+      View view = new View(container.getContext());
+      container.addView(view);
+      return view;
+    }
+
+    @Override
+    public void destroyItem(@NonNull ViewGroup container, int position, @NonNull Object object) {
+      container.removeView((View) object);
+    }
+
+    @Override public int getCount() {
+      return 2;
+    }
+
+    @Override public boolean isViewFromObject(@NonNull View view, @NonNull Object object) {
+      return view == object;
+    }
+  }
+}
@@ -0,0 +1,239 @@
+package com.jakewharton.rxbinding4.benchmark;
+
+import android.content.Context;
+import android.widget.ArrayAdapter;
+import android.widget.CheckBox;
+import android.widget.EditText;
+import android.widget.ListView;
+import android.widget.RadioButton;
+import android.widget.RadioGroup;
+import android.widget.RatingBar;
+import android.widget.SeekBar;
+import androidx.test.core.app.ApplicationProvider;
+import com.jakewharton.rxbinding4.widget.RxAbsListView;
+import com.jakewharton.rxbinding4.widget.RxAdapterView;
+import com.jakewharton.rxbinding4.widget.RxCompoundButton;
+import com.jakewharton.rxbinding4.widget.RxRadioGroup;
+import com.jakewharton.rxbinding4.widget.RxRatingBar;
+import com.jakewharton.rxbinding4.widget.RxSeekBar;
+import com.jakewharton.rxbinding4.widget.RxTextView;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static android.view.View.MeasureSpec.EXACTLY;
+import static android.view.View.MeasureSpec.makeMeasureSpec;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.baseline;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.dispatch;
+import static com.jakewharton.rxbinding4.benchmark.BindingBenchmark.subscribe;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public final class RxWidgetBenchmark {
+  private final Context context = ApplicationProvider.getApplicationContext();
+
+  @Test public void seekBarChanges() {
+    SeekBar view = new SeekBar(context);
+    dispatch("RxSeekBar.changes", RxSeekBar.changes(view), new Progress(view));
+  }
+
+  @Test public void seekBarPrimitiveChanges() {
+    SeekBar view = new SeekBar(context);
+    dispatch("RxSeekBar.primitiveChanges", RxSeekBar.primitiveChanges(view), new Progress(view));
+  }
+
+  @Test public void seekBarChangeEvents() {
+    SeekBar view = new SeekBar(context);
+    dispatch("RxSeekBar.changeEvents", RxSeekBar.changeEvents(view), new Progress(view));
+  }
+
+  @Test public void seekBarChangesBaseline() {
+    SeekBar view = new SeekBar(context);
+    view.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+      @Override public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+      }
+
+      @Override public void onStartTrackingTouch(SeekBar seekBar) {
+      }
+
+      @Override public void onStopTrackingTouch(SeekBar seekBar) {
+      }
+    });
+    baseline("RxSeekBar.changes", new Progress(view));
+  }
+
+  @Test public void ratingBarRatingChanges() {
+    RatingBar view = new RatingBar(context);
+    dispatch("RxRatingBar.ratingChanges", RxRatingBar.ratingChanges(view), new Rating(view));
+  }
+
+  @Test public void ratingBarPrimitiveRatingChanges() {
+    RatingBar view = new RatingBar(context);
+    dispatch("RxRatingBar.primitiveRatingChanges", RxRatingBar.primitiveRatingChanges(view),
+        new Rating(view));
+  }
+
+  @Test public void compoundButtonCheckedChanges() {
+    CheckBox view = new CheckBox(context);
+    dispatch("RxCompoundButton.checkedChanges", RxCompoundButton.checkedChanges(view),
+        view::toggle);
+  }
+
+  @Test public void radioGroupCheckedChanges() {
+    RadioGroup view = new RadioGroup(context);
+    RadioButton first = new RadioButton(context);
+    first.setId(1);
+    view.addView(first);
+    RadioButton second = new RadioButton(context);
+    second.setId(2);
+    view.addView(second);
+    int[] checked = { 1 };
+    dispatch("RxRadioGroup.checkedChanges", RxRadioGroup.checkedChanges(view), () -> {
+      checked[0] = 3 - checked[0];
+      view.check(checked[0]);
+    });
+  }
+
+  @Test public void textViewTextChanges() {
+    EditText view = new EditText(context);
+    dispatch("RxTextView.textChanges", RxTextView.textChanges(view), new Typing(view));
+  }
+
+  @Test public void textViewTextChangeEvents() {
+    EditText view = new EditText(context);
+    dispatch("RxTextView.textChangeEvents", RxTextView.textChangeEvents(view), new Typing(view));
+  }
+
+  @Test public void textViewBeforeTextChangeEvents() {
+    EditText view = new EditText(context);
+    dispatch("RxTextView.beforeTextChangeEvents", RxTextView.beforeTextChangeEvents(view),
+        new Typing(view));
+  }
+
+  @Test public void textViewAfterTextChangeEvents() {
+    EditText view = new EditText(context);
+    dispatch("RxTextView.afterTextChangeEvents", RxTextView.afterTextChangeEvents(view),
+        new Typing(view));
+  }
+
+  @Test public void textViewTextEdits() {
+    EditText view = new EditText(context);
+    dispatch("RxTextView.textEdits", RxTextView.textEdits(view), new Typing(view));
+  }
+
+  @Test public void textViewEditorActions() {
+    EditText view = new EditText(context);
+    dispatch("RxTextView.editorActions", RxTextView.editorActions(view),
+        () -> view.onEditorAction(0));
+  }
+
+  @Test public void adapterViewItemClicks() {
+    ListView view = listView();
+    dispatch("RxAdapterView.itemClicks", RxAdapterView.itemClicks(view),
+        () -> view.performItemClick(null, 1, 1));
+  }
+
+  @Test public void adapterViewPrimitiveItemClicks() {
+    ListView view = listView();
+    dispatch("RxAdapterView.primitiveItemClicks", RxAdapterView.primitiveItemClicks(view),
+        () -> view.performItemClick(null, 1, 1));
+  }
+
+  @Test public void adapterViewItemClickEvents() {
+    ListView view = listView();
+    dispatch("RxAdapterView.itemClickEvents", RxAdapterView.itemClickEvents(view),
+        () -> view.performItemClick(null, 1, 1));
+  }
+
+  @Test public void adapterViewItemSelections() {
+    subscribe("RxAdapterView.itemSelections", RxAdapterView.itemSelections(listView()));
+  }
+
+  @Test public void absListViewScrollEvents() {
+    subscribe("RxAbsListView.scrollEvents", RxAbsListView.scrollEvents(listView()));
+  }
+
+  @Test public void absListViewScrollVelocities() {
+    ListView view = new ListView(context);
+    view.setAdapter(new ArrayAdapter<>(context, android.R.layout.simple_list_item_1,
+        Collections.nCopies(100, "item")));
+    view.measure(makeMeasureSpec(100, EXACTLY), makeMeasureSpec(100, EXACTLY));
+    view.layout(0, 0, 100, 100);
+    dispatch("RxAbsListView.scrollVelocities", RxAbsListView.scrollVelocities(view),
+        new ListScroll(view));
+  }
+
+  private ListView listView() {
+    ListView view = new ListView(context);
+    view.setAdapter(new ArrayAdapter<>(context, android.R.layout.simple_list_item_1,
+        Arrays.asList("one", "two", "three")));
+    return view;
+  }
+
+  /** Alternates the progress of a seek bar so that every update is a change. */
+  private static final class Progress implements Runnable {
+    private final SeekBar view;
+    private boolean high;
+
+    Progress(SeekBar view) {
+      this.view = view;
+    }
+
+    @Override public void run() {
+      high = !high;
+      view.setProgress(high ? 90 : 10);
+    }
+  }
+
+  /** Alternates the rating of a rating bar so that every update is a change. */
+  private static final class Rating implements Runnable {
+    private final RatingBar view;
+    private boolean high;
+
+    Rating(RatingBar view) {
+      this.view = view;
+    }
+
+    @Override public void run() {
+      high = !high;
+      view.setRating(high ? 4f : 1f);
+    }
+  }
+
+  /** Scrolls a list down and back up so that every scroll is a change. */
+  private static final class ListScroll implements Runnable {
+    private final ListView view;
+    private boolean down;
+
+    ListScroll(ListView view) {
+      this.view = view;
+    }
+
+    @Override public void run() {
+      down = !down;
+      view.scrollListBy(down ? 10 : -10);
+    }
+  }
+
+  /** Types and then deletes a single character. */
+  private static final class Typing implements Runnable {
+    private final EditText view;
+    private boolean typed;
+
+    Typing(EditText view) {
+      this.view = view;
+    }
+
+    @Override public void run() {
+      typed = !typed;
+      if (typed) {
+        view.getText().append('a');
+      } else {
+        view.getText().delete(0, 1);
+      }
+    }
+  }
+}
@@ -1,21 +1,29 @@
 package com.jakewharton.rxbinding4.core;
 
+import android.app.Instrumentation;
 import androidx.core.widget.NestedScrollView;
 import androidx.test.annotation.UiThreadTest;
+import androidx.test.platform.app.InstrumentationRegistry;
 import androidx.test.rule.ActivityTestRule;
 import com.jakewharton.rxbinding4.RecordingObserver;
 import com.jakewharton.rxbinding4.view.ViewScrollChangeEvent;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public final class RxNestedScrollViewTest {
   @Rule public final ActivityTestRule<RxNestedScrollViewTestActivity> activityRule =
       new ActivityTestRule<>(RxNestedScrollViewTestActivity.class);
 
+  private final Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+
   private NestedScrollView view;
 
   @Before public void setUp() {
@@ -40,4 +48,41 @@ public final class RxNestedScrollViewTest {
     view.scrollTo(2000, 0);
     o.assertNoMoreEvents();
   }
+
+  @Test public void scrollVelocities() throws InterruptedException {
+    RecordingObserver<ViewScrollChangeEvent> events = new RecordingObserver<>();
+    List<Float> velocities = new ArrayList<>();
+    Disposable[] disposable = new Disposable[1];
+    instrumentation.runOnMainSync(() -> {
+      RxNestedScrollView.scrollChangeEvents(view).subscribe(events);
+      disposable[0] = RxNestedScrollView.scrollVelocities(view).subscribe(velocities::add);
+    });
+    assertTrue(velocities.isEmpty()); // No initial value.
+
+    instrumentation.runOnMainSync(() -> view.scrollTo(0, 100));
+    assertEquals(1, velocities.size());
+    assertTrue(velocities.get(0) > 0f);
+    // The scroll change listener is shared with scrollChangeEvents().
+    assertEquals(100, events.takeNext().getScrollY());
+
+    // Zero is delivered once scrolling pauses.
+    Thread.sleep(500);
+    instrumentation.waitForIdleSync();
+    assertEquals(2, velocities.size());
+    assertEquals(0f, velocities.get(1), 0f);
+
+    instrumentation.runOnMainSync(() -> view.scrollTo(0, 0));
+    assertEquals(3, velocities.size());
+    assertTrue(velocities.get(2) < 0f);
+    events.takeNext();
+
+    instrumentation.runOnMainSync(() -> disposable[0].dispose());
+    Thread.sleep(500);
+    instrumentation.waitForIdleSync();
+    instrumentation.runOnMainSync(() -> view.scrollTo(0, 100));
+    assertEquals(3, velocities.size());
+    events.takeNext();
+
+    instrumentation.runOnMainSync(events::dispose);
+  }
 }
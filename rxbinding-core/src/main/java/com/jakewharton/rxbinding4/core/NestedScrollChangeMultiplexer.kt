@@ -0,0 +1,24 @@
+package com.jakewharton.rxbinding4.core
+
+import androidx.core.widget.NestedScrollView
+import androidx.core.widget.NestedScrollView.OnScrollChangeListener
+import com.jakewharton.rxbinding4.internal.ListenerMultiplexer
+import com.jakewharton.rxbinding4.internal.Listeners
+
+internal object NestedScrollChangeMultiplexer :
+    ListenerMultiplexer<NestedScrollView, OnScrollChangeListener>() {
+  override fun setListener(view: NestedScrollView, listener: OnScrollChangeListener?) {
+    view.setOnScrollChangeListener(listener)
+  }
+
+  override fun createDispatcher(
+    listeners: Listeners<OnScrollChangeListener>
+  ): OnScrollChangeListener {
+    return OnScrollChangeListener { v, scrollX, scrollY, oldScrollX, oldScrollY ->
+      for (listener in listeners.snapshot()) {
+        (listener as OnScrollChangeListener).onScrollChange(v, scrollX, scrollY, oldScrollX,
+            oldScrollY)
+      }
+    }
+  }
+}
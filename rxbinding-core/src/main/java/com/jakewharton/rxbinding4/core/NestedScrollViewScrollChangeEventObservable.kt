@@ -12,12 +12,17 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of scroll-change events for `view`.
  *
  * *Warning:* The created observable keeps a strong reference to `view`.
  * Unsubscribe to free this reference.
+ *
+ * *Note:* The created observable uses [NestedScrollView.setOnScrollChangeListener] to observe
+ * scroll changes. Any number of observables and sources can be subscribed for a view at a time
+ * and will share that listener.
  */
 @CheckResult
 fun NestedScrollView.scrollChangeEvents(): Observable<ViewScrollChangeEvent> {
@@ -28,13 +33,14 @@ private class NestedScrollViewScrollChangeEventObservable(
   private val view: NestedScrollView
 ) : Observable<ViewScrollChangeEvent>() {
 
-  override fun subscribeActual(observer: Observer<in ViewScrollChangeEvent>) {
+  override fun subscribeActual(downstream: Observer<in ViewScrollChangeEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
     val listener = Listener(view, observer)
     observer.onSubscribe(listener)
-    view.setOnScrollChangeListener(listener)
+    NestedScrollChangeMultiplexer.add(view, listener)
   }
 
   private class Listener(
@@ -52,7 +58,7 @@ private class NestedScrollViewScrollChangeEventObservable(
     }
 
     override fun onDispose() {
-      view.setOnScrollChangeListener(null as OnScrollChangeListener?)
+      NestedScrollChangeMultiplexer.remove(view, this)
     }
   }
 }
@@ -0,0 +1,81 @@
+@file:JvmName("RxNestedScrollView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.core
+
+import android.view.animation.AnimationUtils
+import androidx.annotation.CheckResult
+import androidx.core.widget.NestedScrollView
+import androidx.core.widget.NestedScrollView.OnScrollChangeListener
+import com.jakewharton.rxbinding4.FloatObservable
+import com.jakewharton.rxbinding4.FloatObserver
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
+
+import com.jakewharton.rxbinding4.internal.VelocityEstimator
+import com.jakewharton.rxbinding4.internal.mainHandler
+
+/**
+ * Create a source of the vertical scroll velocity of `view` in pixels per second which
+ * delivers values without boxing.
+ *
+ * The velocity is averaged over recent scroll changes to smooth irregular event timing. A value
+ * of zero is delivered when no scroll change has happened for a short time.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* The created source uses [NestedScrollView.setOnScrollChangeListener] to observe
+ * scroll changes. Any number of observables and sources can be subscribed for a view at a time
+ * and will share that listener.
+ */
+@CheckResult
+fun NestedScrollView.scrollVelocities(): FloatObservable {
+  return NestedScrollViewScrollVelocityObservable(this)
+}
+
+private class NestedScrollViewScrollVelocityObservable(
+  private val view: NestedScrollView
+) : FloatObservable() {
+
+  override fun subscribeActual(observer: FloatObserver): Disposable {
+    val listener = Listener(view, observer)
+    NestedScrollChangeMultiplexer.add(view, listener)
+    return listener
+  }
+
+  private class Listener(
+    private val view: NestedScrollView,
+    private val observer: FloatObserver
+  ) : MainThreadDisposable(), OnScrollChangeListener, Runnable {
+    private val estimator = VelocityEstimator()
+
+    override fun onScrollChange(
+      v: NestedScrollView,
+      scrollX: Int,
+      scrollY: Int,
+      oldScrollX: Int,
+      oldScrollY: Int
+    ) {
+      if (!isDisposed && scrollY != oldScrollY) {
+        val time = AnimationUtils.currentAnimationTimeMillis()
+        observer.onNext(estimator.add(time, (scrollY - oldScrollY).toFloat()))
+        // There is no idle callback. Treat a pause in scrolling as having stopped.
+        mainHandler.removeCallbacks(this)
+        mainHandler.postDelayed(this, VelocityEstimator.HORIZON_MILLIS)
+      }
+    }
+
+    override fun run() {
+      if (!isDisposed) {
+        estimator.reset()
+        observer.onNext(0f)
+      }
+    }
+
+    override fun onDispose() {
+      NestedScrollChangeMultiplexer.remove(view, this)
+      mainHandler.removeCallbacks(this)
+    }
+  }
+}
@@ -10,6 +10,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of [search query events][SearchBarSearchQueryEvent] on `view`.
@@ -26,7 +27,8 @@ private class SearchBarSearchQueryChangeEventsObservable(
   private val view: SearchBar
 ) : Observable<SearchBarSearchQueryEvent>() {
 
-  override fun subscribeActual(observer: Observer<in SearchBarSearchQueryEvent>) {
+  override fun subscribeActual(downstream: Observer<in SearchBarSearchQueryEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -10,6 +10,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of String values for search query changes on `view`.
@@ -26,7 +27,8 @@ private class SearchBarSearchQueryChangesObservable(
   private val view: SearchBar
 ) : Observable<String>() {
 
-  override fun subscribeActual(observer: Observer<in String>) {
+  override fun subscribeActual(downstream: Observer<in String>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
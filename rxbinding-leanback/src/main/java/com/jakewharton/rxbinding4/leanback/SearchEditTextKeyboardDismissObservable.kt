@@ -11,6 +11,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable which emits the keyboard dismiss events from `view`.
@@ -28,7 +29,8 @@ private class SearchEditTextKeyboardDismissObservable(
   private val view: SearchEditText
 ) : Observable<Unit>() {
 
-  override fun subscribeActual(observer: Observer<in Unit>) {
+  override fun subscribeActual(downstream: Observer<in Unit>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
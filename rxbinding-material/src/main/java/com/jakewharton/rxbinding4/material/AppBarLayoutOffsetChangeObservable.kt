@@ -6,10 +6,14 @@ package com.jakewharton.rxbinding4.material
 import androidx.annotation.CheckResult
 import com.google.android.material.appbar.AppBarLayout
 import com.google.android.material.appbar.AppBarLayout.OnOffsetChangedListener
+import com.jakewharton.rxbinding4.IntObservable
+import com.jakewharton.rxbinding4.IntObserver
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
 
 /**
  * Create an observable which emits the offset change in `view`.
@@ -26,7 +30,8 @@ private class AppBarLayoutOffsetChangeObservable(
   private val view: AppBarLayout
 ) : Observable<Int>() {
 
-  override fun subscribeActual(observer: Observer<in Int>) {
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -51,3 +56,41 @@ private class AppBarLayoutOffsetChangeObservable(
     }
   }
 }
+
+/**
+ * Create a source of the offset change in `view` which delivers values without boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ */
+@CheckResult
+fun AppBarLayout.primitiveOffsetChanges(): IntObservable {
+  return AppBarLayoutPrimitiveOffsetChangeObservable(this)
+}
+
+private class AppBarLayoutPrimitiveOffsetChangeObservable(
+  private val view: AppBarLayout
+) : IntObservable() {
+
+  override fun subscribeActual(observer: IntObserver): Disposable {
+    val listener = Listener(view, observer)
+    view.addOnOffsetChangedListener(listener)
+    return listener
+  }
+
+  private class Listener(
+    private val appBarLayout: AppBarLayout,
+    private val observer: IntObserver
+  ) : MainThreadDisposable(), OnOffsetChangedListener {
+
+    override fun onOffsetChanged(appBarLayout: AppBarLayout, verticalOffset: Int) {
+      if (!isDisposed) {
+        observer.onNext(verticalOffset)
+      }
+    }
+
+    override fun onDispose() {
+      appBarLayout.removeOnOffsetChangedListener(this)
+    }
+  }
+}
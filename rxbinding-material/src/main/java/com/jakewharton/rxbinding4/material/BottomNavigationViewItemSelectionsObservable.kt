@@ -8,6 +8,7 @@ import androidx.annotation.CheckResult
 import com.google.android.material.bottomnavigation.BottomNavigationView
 import com.google.android.material.bottomnavigation.BottomNavigationView.OnNavigationItemSelectedListener
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -29,7 +30,8 @@ private class BottomNavigationViewItemSelectionsObservable(
   private val view: BottomNavigationView
 ) : Observable<MenuItem>() {
 
-  override fun subscribeActual(observer: Observer<in MenuItem>) {
+  override fun subscribeActual(downstream: Observer<in MenuItem>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
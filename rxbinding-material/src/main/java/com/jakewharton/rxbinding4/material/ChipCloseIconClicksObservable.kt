@@ -8,6 +8,7 @@ import android.view.View.OnClickListener
 import androidx.annotation.CheckResult
 import com.google.android.material.chip.Chip
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -31,7 +32,8 @@ private class ChipCloseIconClicksObservable(
   private val view: Chip
 ) : Observable<Unit>() {
 
-  override fun subscribeActual(observer: Observer<in Unit>) {
+  override fun subscribeActual(downstream: Observer<in Unit>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
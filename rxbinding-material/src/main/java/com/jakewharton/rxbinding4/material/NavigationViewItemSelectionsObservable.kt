@@ -8,6 +8,7 @@ import androidx.annotation.CheckResult
 import com.google.android.material.navigation.NavigationView
 import com.google.android.material.navigation.NavigationView.OnNavigationItemSelectedListener
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -30,7 +31,8 @@ private class NavigationViewItemSelectionsObservable(
   private val view: NavigationView
 ) : Observable<MenuItem>() {
 
-  override fun subscribeActual(observer: Observer<in MenuItem>) {
+  override fun subscribeActual(downstream: Observer<in MenuItem>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -7,6 +7,7 @@ import androidx.annotation.CheckResult
 import com.google.android.material.snackbar.Snackbar
 import com.google.android.material.snackbar.Snackbar.Callback
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -26,7 +27,8 @@ private class SnackbarDismissesObservable(
   private val view: Snackbar
 ) : Observable<Int>() {
 
-  override fun subscribeActual(observer: Observer<in Int>) {
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -9,6 +9,7 @@ import androidx.coordinatorlayout.widget.CoordinatorLayout.LayoutParams
 import com.google.android.material.behavior.SwipeDismissBehavior
 import com.google.android.material.behavior.SwipeDismissBehavior.OnDismissListener
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -29,7 +30,8 @@ private class SwipeDismissBehaviorObservable(
   private val view: View
 ) : Observable<View>() {
 
-  override fun subscribeActual(observer: Observer<in View>) {
+  override fun subscribeActual(downstream: Observer<in View>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
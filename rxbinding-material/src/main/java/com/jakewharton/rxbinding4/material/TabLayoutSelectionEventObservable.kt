@@ -7,6 +7,7 @@ import androidx.annotation.CheckResult
 import com.google.android.material.tabs.TabLayout
 import com.google.android.material.tabs.TabLayout.Tab
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -29,7 +30,8 @@ private class TabLayoutSelectionEventObservable(
   val view: TabLayout
 ) : Observable<TabLayoutSelectionEvent>() {
 
-  override fun subscribeActual(observer: Observer<in TabLayoutSelectionEvent>) {
+  override fun subscribeActual(downstream: Observer<in TabLayoutSelectionEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -8,6 +8,7 @@ import com.google.android.material.tabs.TabLayout
 import com.google.android.material.tabs.TabLayout.BaseOnTabSelectedListener
 import com.google.android.material.tabs.TabLayout.Tab
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -29,7 +30,8 @@ private class TabLayoutSelectionsObservable(
   private val view: TabLayout
 ) : Observable<Tab>() {
 
-  override fun subscribeActual(observer: Observer<in Tab>) {
+  override fun subscribeActual(downstream: Observer<in Tab>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
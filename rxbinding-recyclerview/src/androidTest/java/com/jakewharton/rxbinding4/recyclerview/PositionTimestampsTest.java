@@ -0,0 +1,68 @@
+package com.jakewharton.rxbinding4.recyclerview;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public final class PositionTimestampsTest {
+  private final PositionTimestamps timestamps = new PositionTimestamps();
+
+  /** Track positions 0 through 5, each visible since 100 plus its position. */
+  @Before public void setUp() {
+    timestamps.beginPass();
+    for (int position = 0; position < 6; position++) {
+      timestamps.mark(position, 100 + position);
+    }
+    timestamps.endPass();
+  }
+
+  @Test public void insertShiftsLaterPositions() {
+    // Adapter inserts two items at position 2.
+    timestamps.shift(2, 2);
+    assertEquals("0=100 1=101 4=102 5=103 6=104 7=105", dump());
+  }
+
+  @Test public void removeDropsRangeAndShiftsLaterPositions() {
+    // Adapter removes two items at position 2.
+    timestamps.removeRange(2, 4);
+    timestamps.shift(4, -2);
+    assertEquals("0=100 1=101 2=104 3=105", dump());
+  }
+
+  @Test public void moveDown() {
+    timestamps.move(1, 4, 1);
+    assertEquals("0=100 1=102 2=103 3=104 4=101 5=105", dump());
+  }
+
+  @Test public void moveUp() {
+    timestamps.move(4, 1, 1);
+    assertEquals("0=100 1=104 2=101 3=102 4=103 5=105", dump());
+  }
+
+  @Test public void moveRange() {
+    timestamps.move(0, 3, 2);
+    assertEquals("0=102 1=103 2=104 3=100 4=101 5=105", dump());
+  }
+
+  @Test public void moveKeepsUnmarkedPositionsAfterPass() {
+    timestamps.move(0, 5, 1);
+    timestamps.beginPass();
+    timestamps.mark(5, 200);
+    timestamps.mark(0, 200);
+    timestamps.endPass();
+    // Both positions were already tracked, so their original timestamps are kept.
+    assertEquals("0=101 5=100", dump());
+  }
+
+  private String dump() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < timestamps.getSize(); i++) {
+      if (i > 0) {
+        builder.append(' ');
+      }
+      builder.append(timestamps.keyAt(i)).append('=').append(timestamps.valueAt(i));
+    }
+    return builder.toString();
+  }
+}
@@ -1,12 +1,23 @@
 package com.jakewharton.rxbinding4.recyclerview;
 
 import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.recyclerview.widget.RecyclerView.ViewHolder;
 import androidx.test.annotation.UiThreadTest;
+import androidx.test.platform.app.InstrumentationRegistry;
 import com.jakewharton.rxbinding4.RecordingObserver;
+import io.reactivex.rxjava3.functions.Consumer;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import kotlin.Unit;
 import org.junit.Test;
 
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
 public final class RxRecyclerViewAdapterTest {
@@ -28,6 +39,60 @@ public final class RxRecyclerViewAdapterTest {
     o.assertNoMoreEvents();
   }
 
+  @Test @UiThreadTest public void dataChangeEvents() {
+    RecordingObserver<RecyclerAdapterDataChangeEvent> o = new RecordingObserver<>();
+    RxRecyclerViewAdapter.dataChangeEvents(adapter).subscribe(o);
+    o.assertNoMoreEvents();
+
+    adapter.notifyItemRangeInserted(2, 3);
+    assertEquals(new RecyclerAdapterDataChangeEvent.ItemRangeInserted(2, 3), o.takeNext());
+
+    adapter.notifyItemRangeRemoved(1, 2);
+    assertEquals(new RecyclerAdapterDataChangeEvent.ItemRangeRemoved(1, 2), o.takeNext());
+
+    adapter.notifyItemMoved(4, 0);
+    assertEquals(new RecyclerAdapterDataChangeEvent.ItemRangeMoved(4, 0, 1), o.takeNext());
+
+    adapter.notifyItemRangeChanged(0, 2);
+    assertEquals(new RecyclerAdapterDataChangeEvent.ItemRangeChanged(0, 2, null), o.takeNext());
+
+    adapter.notifyItemChanged(3, "payload");
+    assertEquals(new RecyclerAdapterDataChangeEvent.ItemRangeChanged(3, 1, "payload"),
+        o.takeNext());
+
+    adapter.notifyDataSetChanged();
+    assertSame(RecyclerAdapterDataChangeEvent.DataSetChanged.INSTANCE, o.takeNext());
+
+    o.dispose();
+    adapter.notifyItemRangeInserted(0, 1);
+    o.assertNoMoreEvents();
+  }
+
+  @Test public void diffUpdates() throws Throwable {
+    List<List<String>> lists = new ArrayList<>();
+    Consumer<? super List<String>> consumer = RxRecyclerViewAdapter.diffUpdates(adapter,
+        new StringItemCallback(), true, Schedulers.trampoline(), list -> {
+          lists.add(list);
+          return Unit.INSTANCE;
+        });
+
+    RecordingObserver<RecyclerAdapterDataChangeEvent> o = new RecordingObserver<>();
+    InstrumentationRegistry.getInstrumentation()
+        .runOnMainSync(() -> RxRecyclerViewAdapter.dataChangeEvents(adapter).subscribe(o));
+
+    List<String> first = Arrays.asList("a", "b");
+    consumer.accept(first);
+    assertEquals(new RecyclerAdapterDataChangeEvent.ItemRangeInserted(0, 2), o.takeNext());
+    assertEquals(singletonList(first), lists);
+
+    List<String> second = Arrays.asList("a", "c", "b");
+    consumer.accept(second);
+    assertEquals(new RecyclerAdapterDataChangeEvent.ItemRangeInserted(1, 1), o.takeNext());
+    assertEquals(Arrays.asList(first, second), lists);
+
+    InstrumentationRegistry.getInstrumentation().runOnMainSync(o::dispose);
+  }
+
   private static final class TestRecyclerAdapter extends RecyclerView.Adapter<ViewHolder> {
     TestRecyclerAdapter() {
     }
@@ -43,4 +108,14 @@ public final class RxRecyclerViewAdapterTest {
       return 0;
     }
   }
+
+  private static final class StringItemCallback extends DiffUtil.ItemCallback<String> {
+    @Override public boolean areItemsTheSame(@NonNull String oldItem, @NonNull String newItem) {
+      return oldItem.equals(newItem);
+    }
+
+    @Override public boolean areContentsTheSame(@NonNull String oldItem, @NonNull String newItem) {
+      return oldItem.equals(newItem);
+    }
+  }
 }
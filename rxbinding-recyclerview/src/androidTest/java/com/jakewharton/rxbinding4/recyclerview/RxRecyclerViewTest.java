@@ -1,7 +1,9 @@
 package com.jakewharton.rxbinding4.recyclerview;
 
 import android.app.Instrumentation;
+import android.os.SystemClock;
 import android.view.LayoutInflater;
+import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
@@ -13,13 +15,25 @@ import androidx.test.rule.ActivityTestRule;
 import com.jakewharton.rxbinding4.ViewDirtyIdlingResource;
 import com.jakewharton.rxbinding4.RecordingObserver;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.disposables.Disposable;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
+import static android.view.MotionEvent.ACTION_DOWN;
+import static android.view.MotionEvent.ACTION_UP;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public final class RxRecyclerViewTest {
   @Rule public final ActivityTestRule<RxRecyclerViewTestActivity> activityRule =
@@ -116,6 +130,261 @@ public final class RxRecyclerViewTest {
     o.assertNoMoreEvents();
   }
 
+  @Test public void pauseWhileFlinging() {
+    instrumentation.runOnMainSync(() -> view.setAdapter(new Adapter()));
+    instrumentation.waitForIdleSync();
+
+    PublishSubject<Integer> subject = PublishSubject.create();
+    TestObserver<Integer> o = new TestObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxRecyclerView.pauseWhileFlinging(subject, view).subscribe(o);
+      subject.onNext(1);
+      o.assertValues(1);
+
+      view.smoothScrollBy(0, 500);
+      subject.onNext(2);
+      subject.onNext(3);
+      o.assertValues(1);
+
+      view.stopScroll();
+      o.assertValues(1, 2, 3);
+      o.dispose();
+    });
+  }
+
+  @Test public void scrollVelocities() {
+    instrumentation.runOnMainSync(() -> view.setAdapter(new Adapter()));
+    instrumentation.waitForIdleSync();
+
+    List<Float> velocities = new ArrayList<>();
+    Disposable[] disposable = new Disposable[1];
+    instrumentation.runOnMainSync(() -> {
+      disposable[0] = RxRecyclerView.scrollVelocities(view).subscribe(velocities::add);
+    });
+    assertTrue(velocities.isEmpty()); // No initial value.
+
+    instrumentation.runOnMainSync(() -> view.scrollBy(0, 50));
+    assertEquals(1, velocities.size());
+    assertTrue(velocities.get(0) > 0f);
+
+    // A scroll without movement does not deliver a value.
+    instrumentation.runOnMainSync(() -> view.scrollBy(0, 0));
+    assertEquals(1, velocities.size());
+
+    SystemClock.sleep(20);
+    instrumentation.runOnMainSync(() -> view.scrollBy(0, -50));
+    assertEquals(2, velocities.size());
+    assertTrue(velocities.get(1) < 0f);
+
+    instrumentation.runOnMainSync(() -> disposable[0].dispose());
+    instrumentation.runOnMainSync(() -> view.scrollBy(0, 50));
+    assertEquals(2, velocities.size());
+  }
+
+  @Test public void visiblePositionRanges() {
+    instrumentation.runOnMainSync(() -> view.setAdapter(new Adapter()));
+    instrumentation.waitForIdleSync();
+
+    List<Long> ranges = new ArrayList<>();
+    Disposable[] disposable = new Disposable[1];
+    instrumentation.runOnMainSync(() -> {
+      disposable[0] = RxRecyclerView.visiblePositionRanges(view).subscribe(ranges::add);
+    });
+    assertEquals(1, ranges.size());
+    assertEquals(0, PositionRange.first(ranges.get(0)));
+    assertTrue(PositionRange.last(ranges.get(0)) > 0);
+
+    // Relayout without a change to the visible items does not deliver a value.
+    instrumentation.runOnMainSync(() -> view.requestLayout());
+    instrumentation.waitForIdleSync();
+    assertEquals(1, ranges.size());
+
+    instrumentation.runOnMainSync(() -> view.scrollToPosition(50));
+    instrumentation.waitForIdleSync();
+    assertEquals(2, ranges.size());
+    assertTrue(PositionRange.first(ranges.get(1)) > 0);
+
+    instrumentation.runOnMainSync(() -> disposable[0].dispose());
+    instrumentation.runOnMainSync(() -> view.scrollToPosition(0));
+    instrumentation.waitForIdleSync();
+    assertEquals(2, ranges.size());
+  }
+
+  @Test public void visiblePositionRangesAsObservable() {
+    instrumentation.runOnMainSync(() -> view.setAdapter(new Adapter()));
+    instrumentation.waitForIdleSync();
+
+    List<String> events = new ArrayList<>();
+    TestObserver<Long> first = new TestObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxRecyclerView.visiblePositionRanges(view).asObservable()
+          .doOnSubscribe(d -> events.add("subscribe"))
+          .doOnNext(range -> events.add("next"))
+          .take(1)
+          .subscribe(first);
+    });
+    // The initial value must not be delivered before onSubscribe.
+    assertEquals(Arrays.asList("subscribe", "next"), events);
+    first.assertValueCount(1);
+    first.assertComplete();
+  }
+
+  @Test public void impressions() {
+    instrumentation.runOnMainSync(() -> view.setAdapter(new Adapter()));
+    instrumentation.waitForIdleSync();
+
+    RecordingObserver<List<RecyclerViewItemImpression>> o = new RecordingObserver<>();
+    RxRecyclerView.impressions(view, 0.5f, 0)
+        .subscribeOn(AndroidSchedulers.mainThread())
+        .subscribe(o);
+    List<RecyclerViewItemImpression> first = o.takeNext();
+    assertEquals(0, first.get(0).getPosition());
+    assertEquals(0, first.get(0).getItemId());
+    o.assertNoMoreEvents();
+
+    // Items which stay visible are not impressed again.
+    instrumentation.runOnMainSync(() -> view.requestLayout());
+    instrumentation.waitForIdleSync();
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> view.scrollToPosition(50));
+    instrumentation.waitForIdleSync();
+    assertTrue(o.takeNext().get(0).getPosition() > 0);
+
+    // Items which left and then became visible again are impressed again.
+    instrumentation.runOnMainSync(() -> view.scrollToPosition(0));
+    instrumentation.waitForIdleSync();
+    List<RecyclerViewItemImpression> again = o.takeNext();
+    assertEquals(first.size(), again.size());
+    assertEquals(0, again.get(0).getPosition());
+
+    o.dispose();
+    instrumentation.runOnMainSync(() -> view.scrollToPosition(50));
+    instrumentation.waitForIdleSync();
+    o.assertNoMoreEvents();
+  }
+
+  @Test public void impressionsAfterDataSetChangedWithoutScrolling() {
+    Adapter adapter = new Adapter();
+    instrumentation.runOnMainSync(() -> view.setAdapter(adapter));
+    instrumentation.waitForIdleSync();
+
+    RecordingObserver<List<RecyclerViewItemImpression>> o = new RecordingObserver<>();
+    RxRecyclerView.impressions(view, 0.5f, 0)
+        .subscribeOn(AndroidSchedulers.mainThread())
+        .subscribe(o);
+    List<RecyclerViewItemImpression> first = o.takeNext();
+    o.assertNoMoreEvents();
+
+    // The same positions stay on screen, so RecyclerView does not call onScrolled.
+    instrumentation.runOnMainSync(adapter::notifyDataSetChanged);
+    instrumentation.waitForIdleSync();
+    List<RecyclerViewItemImpression> again = o.takeNext();
+    assertEquals(first.size(), again.size());
+    assertEquals(0, again.get(0).getPosition());
+
+    o.dispose();
+  }
+
+  @Test public void loadMoreRequests() {
+    instrumentation.runOnMainSync(() -> view.setAdapter(new Adapter()));
+    instrumentation.waitForIdleSync();
+
+    RecordingObserver<Integer> o = new RecordingObserver<>();
+    RxRecyclerView.loadMoreRequests(view, 5)
+        .subscribeOn(AndroidSchedulers.mainThread())
+        .subscribe(o);
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> view.scrollToPosition(96));
+    instrumentation.waitForIdleSync();
+    assertEquals(100, o.takeNext().intValue());
+
+    // Further scrolling does not repeat the request until the item count changes.
+    instrumentation.runOnMainSync(() -> view.scrollToPosition(99));
+    instrumentation.waitForIdleSync();
+    instrumentation.runOnMainSync(() -> view.scrollToPosition(0));
+    instrumentation.waitForIdleSync();
+    instrumentation.runOnMainSync(() -> view.scrollToPosition(99));
+    instrumentation.waitForIdleSync();
+    o.assertNoMoreEvents();
+
+    o.dispose();
+  }
+
+  @Test public void itemClicks() {
+    instrumentation.runOnMainSync(() -> view.setAdapter(new Adapter()));
+    instrumentation.waitForIdleSync();
+
+    List<Integer> clicks = new ArrayList<>();
+    Disposable[] disposable = new Disposable[1];
+    instrumentation.runOnMainSync(() -> {
+      disposable[0] = RxRecyclerView.itemClicks(view).subscribe(clicks::add);
+      View second = view.getChildAt(1);
+      float x = second.getX() + second.getWidth() / 2f;
+      float y = second.getY() + second.getHeight() / 2f;
+      long now = SystemClock.uptimeMillis();
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now, ACTION_DOWN, x, y, 0));
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now + 10, ACTION_UP, x, y, 0));
+    });
+    assertEquals(singletonList(1), clicks);
+
+    instrumentation.runOnMainSync(() -> {
+      disposable[0].dispose();
+      long now = SystemClock.uptimeMillis();
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now, ACTION_DOWN, 1, 1, 0));
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now + 10, ACTION_UP, 1, 1, 0));
+    });
+    assertEquals(singletonList(1), clicks);
+  }
+
+  @Test public void itemClicksIgnoresTapWhichStopsFling() {
+    instrumentation.runOnMainSync(() -> view.setAdapter(new Adapter()));
+    instrumentation.waitForIdleSync();
+
+    List<Integer> clicks = new ArrayList<>();
+    Disposable[] disposable = new Disposable[1];
+    instrumentation.runOnMainSync(() -> {
+      disposable[0] = RxRecyclerView.itemClicks(view).subscribe(clicks::add);
+      view.fling(0, 10000);
+      assertEquals(RecyclerView.SCROLL_STATE_SETTLING, view.getScrollState());
+      View child = view.getChildAt(1);
+      float x = child.getX() + child.getWidth() / 2f;
+      float y = child.getY() + child.getHeight() / 2f;
+      long now = SystemClock.uptimeMillis();
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now, ACTION_DOWN, x, y, 0));
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now + 10, ACTION_UP, x, y, 0));
+      disposable[0].dispose();
+    });
+    assertEquals(emptyList(), clicks);
+  }
+
+  @Test public void mutableScrollEvents() {
+    instrumentation.runOnMainSync(() -> view.setAdapter(new Adapter()));
+
+    RecordingObserver<MutableRecyclerViewScrollEvent> o = new RecordingObserver<>();
+    RxRecyclerView.mutableScrollEvents(view)
+        .subscribeOn(AndroidSchedulers.mainThread())
+        .subscribe(o);
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> view.scrollBy(0, 50));
+    MutableRecyclerViewScrollEvent event1 = o.takeNext();
+    assertEquals(50, event1.getDy());
+    RecyclerViewScrollEvent copy = event1.toImmutable();
+
+    instrumentation.runOnMainSync(() -> view.scrollBy(0, -50));
+    MutableRecyclerViewScrollEvent event2 = o.takeNext();
+    assertSame(event1, event2);
+    assertEquals(-50, event2.getDy());
+    assertEquals(new RecyclerViewScrollEvent(view, 0, 50), copy);
+
+    o.dispose();
+
+    instrumentation.runOnMainSync(() -> view.scrollBy(0, 50));
+    o.assertNoMoreEvents();
+  }
+
   @Test public void scrollEventsHorizontal() {
     instrumentation.runOnMainSync(() -> {
       view.setAdapter(new Adapter());
@@ -0,0 +1,129 @@
+@file:JvmMultifileClass
+@file:JvmName("RxRecyclerViewAdapter")
+
+package com.jakewharton.rxbinding4.recyclerview
+
+import androidx.annotation.CheckResult
+import androidx.recyclerview.widget.RecyclerView.Adapter
+import androidx.recyclerview.widget.RecyclerView.AdapterDataObserver
+import androidx.recyclerview.widget.RecyclerView.ViewHolder
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+/**
+ * Create an observable of granular data change events for `RecyclerView.adapter`.
+ *
+ * Unlike [dataChanges], range updates such as those dispatched by
+ * [androidx.recyclerview.widget.DiffUtil] or [androidx.recyclerview.widget.ListAdapter] are
+ * delivered as individual events so that downstream caches and indexes can be updated
+ * incrementally. Only [Adapter.notifyDataSetChanged] is delivered as
+ * [RecyclerAdapterDataChangeEvent.DataSetChanged].
+ *
+ * *Warning:* The created observable keeps a strong reference to `adapter`. Unsubscribe
+ * to free this reference.
+ */
+@CheckResult
+fun <T : Adapter<out ViewHolder>> T.dataChangeEvents(): Observable<RecyclerAdapterDataChangeEvent> =
+    RecyclerAdapterDataChangeEventObservable(this)
+
+/** A data change of a `RecyclerView.Adapter`. */
+sealed class RecyclerAdapterDataChangeEvent {
+  /** Any or all items may have changed. Positions cached before this event are invalid. */
+  object DataSetChanged : RecyclerAdapterDataChangeEvent() {
+    override fun toString() = "DataSetChanged"
+  }
+
+  /** [itemCount] items starting at [positionStart] were inserted. */
+  data class ItemRangeInserted(
+    val positionStart: Int,
+    val itemCount: Int
+  ) : RecyclerAdapterDataChangeEvent()
+
+  /** [itemCount] items starting at [positionStart] were removed. */
+  data class ItemRangeRemoved(
+    val positionStart: Int,
+    val itemCount: Int
+  ) : RecyclerAdapterDataChangeEvent()
+
+  /** [itemCount] items at [fromPosition] were moved to [toPosition]. */
+  data class ItemRangeMoved(
+    val fromPosition: Int,
+    val toPosition: Int,
+    val itemCount: Int
+  ) : RecyclerAdapterDataChangeEvent()
+
+  /**
+   * [itemCount] items starting at [positionStart] were changed in place. [payload] is the
+   * optional payload passed to [Adapter.notifyItemRangeChanged].
+   */
+  data class ItemRangeChanged(
+    val positionStart: Int,
+    val itemCount: Int,
+    val payload: Any?
+  ) : RecyclerAdapterDataChangeEvent()
+}
+
+private class RecyclerAdapterDataChangeEventObservable(
+  private val adapter: Adapter<*>
+) : Observable<RecyclerAdapterDataChangeEvent>() {
+
+  override fun subscribeActual(downstream: Observer<in RecyclerAdapterDataChangeEvent>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(adapter, observer)
+    observer.onSubscribe(listener)
+    adapter.registerAdapterDataObserver(listener.dataObserver)
+  }
+
+  class Listener(
+    private val recyclerAdapter: Adapter<*>,
+    observer: Observer<in RecyclerAdapterDataChangeEvent>
+  ) : MainThreadDisposable() {
+
+    val dataObserver = object : AdapterDataObserver() {
+      override fun onChanged() {
+        if (!isDisposed) {
+          observer.onNext(RecyclerAdapterDataChangeEvent.DataSetChanged)
+        }
+      }
+
+      // The overload without a payload delegates to this one with a null payload.
+      override fun onItemRangeChanged(positionStart: Int, itemCount: Int, payload: Any?) {
+        if (!isDisposed) {
+          observer.onNext(
+              RecyclerAdapterDataChangeEvent.ItemRangeChanged(positionStart, itemCount, payload))
+        }
+      }
+
+      override fun onItemRangeInserted(positionStart: Int, itemCount: Int) {
+        if (!isDisposed) {
+          observer.onNext(
+              RecyclerAdapterDataChangeEvent.ItemRangeInserted(positionStart, itemCount))
+        }
+      }
+
+      override fun onItemRangeRemoved(positionStart: Int, itemCount: Int) {
+        if (!isDisposed) {
+          observer.onNext(
+              RecyclerAdapterDataChangeEvent.ItemRangeRemoved(positionStart, itemCount))
+        }
+      }
+
+      override fun onItemRangeMoved(fromPosition: Int, toPosition: Int, itemCount: Int) {
+        if (!isDisposed) {
+          observer.onNext(
+              RecyclerAdapterDataChangeEvent.ItemRangeMoved(fromPosition, toPosition, itemCount))
+        }
+      }
+    }
+
+    override fun onDispose() {
+      recyclerAdapter.unregisterAdapterDataObserver(dataObserver)
+    }
+  }
+}
@@ -0,0 +1,123 @@
+@file:JvmMultifileClass
+@file:JvmName("RxRecyclerViewAdapter")
+
+package com.jakewharton.rxbinding4.recyclerview
+
+import androidx.annotation.CheckResult
+import androidx.recyclerview.widget.DiffUtil
+import androidx.recyclerview.widget.RecyclerView.Adapter
+import com.jakewharton.rxbinding4.internal.mainHandler
+import io.reactivex.rxjava3.core.Scheduler
+import io.reactivex.rxjava3.disposables.SerialDisposable
+import io.reactivex.rxjava3.functions.Consumer
+import io.reactivex.rxjava3.schedulers.Schedulers
+import java.util.concurrent.CancellationException
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * An action which updates `adapter` to display each list it accepts. The difference from the
+ * previously displayed list is calculated with [DiffUtil] on `scheduler` and then, on the main
+ * thread, `setList` is called with the new list immediately followed by dispatching the
+ * difference to `adapter`.
+ *
+ * When a list is accepted while the difference for a previous list is still being calculated,
+ * that calculation is abandoned and its result is never dispatched. Lists may be accepted on any
+ * thread.
+ *
+ * `adapter` must display exactly the items of the last list passed to `setList` and must not be
+ * updated by other means. It is initially assumed to be empty.
+ *
+ * *Warning:* The created action keeps a strong reference to `adapter`.
+ *
+ * *Note:* Disposing the subscription which feeds the created action does not abandon a
+ * calculation which is in progress. Its result is still dispatched so that `adapter` reflects the
+ * last accepted list.
+ *
+ * @param detectMoves Passed to [DiffUtil.calculateDiff].
+ */
+@CheckResult
+@JvmOverloads
+fun <T : Any> Adapter<*>.diffUpdates(
+  itemCallback: DiffUtil.ItemCallback<T>,
+  detectMoves: Boolean = true,
+  scheduler: Scheduler = Schedulers.computation(),
+  setList: (List<T>) -> Unit
+): Consumer<in List<T>> {
+  return DiffConsumer(this, itemCallback, detectMoves, scheduler, setList)
+}
+
+private class DiffConsumer<T : Any>(
+  private val adapter: Adapter<*>,
+  private val itemCallback: DiffUtil.ItemCallback<T>,
+  private val detectMoves: Boolean,
+  private val scheduler: Scheduler,
+  private val setList: (List<T>) -> Unit
+) : Consumer<List<T>> {
+  private val generation = AtomicInteger()
+  private val calculation = SerialDisposable()
+  /** The list displayed by [adapter]. Only written on the main thread. */
+  @Volatile private var current: List<T> = emptyList()
+
+  override fun accept(list: List<T>) {
+    calculate(list, generation.incrementAndGet())
+  }
+
+  private fun calculate(list: List<T>, id: Int) {
+    val base = current
+    synchronized(calculation) {
+      // A newer list may have been accepted on another thread since `id` was taken. Replacing
+      // its calculation would dispose it and leave nothing to dispatch.
+      if (generation.get() != id) {
+        return
+      }
+      calculation.set(scheduler.scheduleDirect {
+        val result = try {
+          DiffUtil.calculateDiff(Callback(base, list, id), detectMoves)
+        } catch (e: CancellationException) {
+          return@scheduleDirect
+        }
+        mainHandler.post { dispatch(base, list, result, id) }
+      })
+    }
+  }
+
+  private fun dispatch(base: List<T>, list: List<T>, result: DiffUtil.DiffResult, id: Int) {
+    if (generation.get() != id) {
+      return // A newer list was accepted.
+    }
+    if (base !== current) {
+      // An older list was dispatched after this calculation read the displayed list.
+      calculate(list, id)
+      return
+    }
+    current = list
+    setList(list)
+    result.dispatchUpdatesTo(adapter)
+  }
+
+  private inner class Callback(
+    private val oldList: List<T>,
+    private val newList: List<T>,
+    private val id: Int
+  ) : DiffUtil.Callback() {
+    override fun getOldListSize() = oldList.size
+
+    override fun getNewListSize() = newList.size
+
+    override fun areItemsTheSame(oldItemPosition: Int, newItemPosition: Int): Boolean {
+      // Checked here because it is called the most often. DiffUtil has no cancellation of its own.
+      if (generation.get() != id) {
+        throw CancellationException()
+      }
+      return itemCallback.areItemsTheSame(oldList[oldItemPosition], newList[newItemPosition])
+    }
+
+    override fun areContentsTheSame(oldItemPosition: Int, newItemPosition: Int): Boolean {
+      return itemCallback.areContentsTheSame(oldList[oldItemPosition], newList[newItemPosition])
+    }
+
+    override fun getChangePayload(oldItemPosition: Int, newItemPosition: Int): Any? {
+      return itemCallback.getChangePayload(oldList[oldItemPosition], newList[newItemPosition])
+    }
+  }
+}
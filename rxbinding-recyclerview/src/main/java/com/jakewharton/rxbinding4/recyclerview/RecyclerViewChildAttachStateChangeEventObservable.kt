@@ -12,6 +12,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of child attach state change events on `recyclerView`.
@@ -27,7 +28,8 @@ private class RecyclerViewChildAttachStateChangeEventObservable(
   private val view: RecyclerView
 ) : Observable<RecyclerViewChildAttachStateChangeEvent>() {
 
-  override fun subscribeActual(observer: Observer<in RecyclerViewChildAttachStateChangeEvent>) {
+  override fun subscribeActual(downstream: Observer<in RecyclerViewChildAttachStateChangeEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
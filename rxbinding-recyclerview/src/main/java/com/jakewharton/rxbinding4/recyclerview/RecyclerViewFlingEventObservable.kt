@@ -11,6 +11,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of fling events on `recyclerView`.
@@ -34,7 +35,8 @@ private class RecyclerViewFlingEventObservable(
   private val view: RecyclerView
 ) : Observable<RecyclerViewFlingEvent>() {
 
-  override fun subscribeActual(observer: Observer<in RecyclerViewFlingEvent>) {
+  override fun subscribeActual(downstream: Observer<in RecyclerViewFlingEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
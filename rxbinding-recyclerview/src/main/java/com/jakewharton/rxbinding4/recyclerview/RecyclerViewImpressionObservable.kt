@@ -0,0 +1,390 @@
+@file:JvmMultifileClass
+@file:JvmName("RxRecyclerView")
+
+package com.jakewharton.rxbinding4.recyclerview
+
+import android.os.SystemClock
+import android.view.ViewTreeObserver.OnGlobalLayoutListener
+import androidx.annotation.CheckResult
+import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.RecyclerView.Adapter
+import androidx.recyclerview.widget.RecyclerView.AdapterDataObserver
+import androidx.recyclerview.widget.RecyclerView.NO_ID
+import androidx.recyclerview.widget.RecyclerView.NO_POSITION
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+import com.jakewharton.rxbinding4.internal.mainHandler
+
+/**
+ * Create an observable of item impressions on `view`. An impression occurs when an item has been
+ * at least `minVisibleFraction` visible for at least `minDwellMillis` without interruption.
+ *
+ * Visibility is only re-measured when `view` scrolls or lays out its children after an adapter
+ * update. Impressions which become due at the same time are emitted together as one list. An
+ * item is not impressed again until it falls below `minVisibleFraction` and then becomes visible
+ * again.
+ *
+ * Adapter range updates shift the tracked positions so that dwell time survives inserts,
+ * removals, and moves elsewhere in the list. A full [Adapter.notifyDataSetChanged] or a new
+ * adapter restarts dwell time for every item.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* Visibility is measured against the bounds of `view` only. Items in a `view` which is
+ * itself scrolled out of sight or covered by other views are still considered visible.
+ */
+@CheckResult
+@JvmOverloads
+fun RecyclerView.impressions(
+  minVisibleFraction: Float = 0.5f,
+  minDwellMillis: Long = 1000L
+): Observable<List<RecyclerViewItemImpression>> {
+  require(minVisibleFraction > 0f && minVisibleFraction <= 1f) {
+    "minVisibleFraction must be in (0, 1]: $minVisibleFraction"
+  }
+  require(minDwellMillis >= 0L) { "minDwellMillis must be non-negative: $minDwellMillis" }
+  return RecyclerViewImpressionObservable(this, minVisibleFraction, minDwellMillis)
+}
+
+/**
+ * An impression of the item at [position] which has been visible for [dwellMillis]. [itemId] is
+ * the stable ID of the item or [RecyclerView.NO_ID] if the adapter does not have stable IDs.
+ */
+data class RecyclerViewItemImpression(
+  val position: Int,
+  val itemId: Long,
+  val dwellMillis: Long
+)
+
+private class RecyclerViewImpressionObservable(
+  private val view: RecyclerView,
+  private val minVisibleFraction: Float,
+  private val minDwellMillis: Long
+) : Observable<List<RecyclerViewItemImpression>>() {
+
+  override fun subscribeActual(downstream: Observer<in List<RecyclerViewItemImpression>>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, minVisibleFraction, minDwellMillis, observer)
+    observer.onSubscribe(listener)
+    view.addOnScrollListener(listener.scrollListener)
+    listener.measure()
+  }
+
+  class Listener(
+    private val recyclerView: RecyclerView,
+    private val minVisibleFraction: Float,
+    private val minDwellMillis: Long,
+    private val observer: Observer<in List<RecyclerViewItemImpression>>
+  ) : MainThreadDisposable(), Runnable {
+    private val visible = PositionTimestamps()
+    private var adapter: Adapter<*>? = null
+    private var scheduledAt = NOT_SCHEDULED
+    private var layoutPending = false
+
+    // RecyclerView also calls onScrolled with zero deltas after a layout changes the range of
+    // visible positions. This covers size changes but not adapter updates which keep the range.
+    val scrollListener = object : RecyclerView.OnScrollListener() {
+      override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+        if (!isDisposed) {
+          measure()
+        }
+      }
+    }
+
+    private val dataObserver = object : AdapterDataObserver() {
+      override fun onChanged() {
+        visible.clear()
+        measureAfterLayout()
+      }
+
+      override fun onItemRangeInserted(positionStart: Int, itemCount: Int) {
+        visible.shift(positionStart, itemCount)
+        measureAfterLayout()
+      }
+
+      override fun onItemRangeRemoved(positionStart: Int, itemCount: Int) {
+        visible.removeRange(positionStart, positionStart + itemCount)
+        visible.shift(positionStart + itemCount, -itemCount)
+        measureAfterLayout()
+      }
+
+      override fun onItemRangeMoved(fromPosition: Int, toPosition: Int, itemCount: Int) {
+        visible.move(fromPosition, toPosition, itemCount)
+        measureAfterLayout()
+      }
+    }
+
+    private val layoutListener = object : OnGlobalLayoutListener {
+      override fun onGlobalLayout() {
+        @Suppress("DEPRECATION") // Correct when minSdk 16.
+        recyclerView.viewTreeObserver.removeGlobalOnLayoutListener(this)
+        layoutPending = false
+        if (!isDisposed) {
+          measure()
+        }
+      }
+    }
+
+    /** Re-measure once the layout which applies an adapter update has happened. */
+    private fun measureAfterLayout() {
+      if (!layoutPending) {
+        layoutPending = true
+        recyclerView.viewTreeObserver.addOnGlobalLayoutListener(layoutListener)
+      }
+    }
+
+    fun measure() {
+      val currentAdapter = recyclerView.adapter
+      if (currentAdapter !== adapter) {
+        adapter?.unregisterAdapterDataObserver(dataObserver)
+        currentAdapter?.registerAdapterDataObserver(dataObserver)
+        adapter = currentAdapter
+        visible.clear()
+      }
+
+      val now = SystemClock.uptimeMillis()
+      val layoutManager = recyclerView.layoutManager
+      val width = recyclerView.width
+      val height = recyclerView.height
+      visible.beginPass()
+      if (layoutManager != null) {
+        for (i in 0 until layoutManager.childCount) {
+          val child = layoutManager.getChildAt(i) ?: continue
+          val position = layoutManager.getPosition(child)
+          if (position == NO_POSITION) {
+            continue
+          }
+          val left = layoutManager.getDecoratedLeft(child)
+          val top = layoutManager.getDecoratedTop(child)
+          val right = layoutManager.getDecoratedRight(child)
+          val bottom = layoutManager.getDecoratedBottom(child)
+          val area = (right - left).toLong() * (bottom - top)
+          if (area <= 0L) {
+            continue
+          }
+          val visibleWidth = minOf(right, width) - maxOf(left, 0)
+          val visibleHeight = minOf(bottom, height) - maxOf(top, 0)
+          if (visibleWidth <= 0 || visibleHeight <= 0) {
+            continue
+          }
+          val visibleArea = visibleWidth.toLong() * visibleHeight
+          if (visibleArea >= minVisibleFraction * area) {
+            visible.mark(position, now)
+          }
+        }
+      }
+      visible.endPass()
+      schedule()
+    }
+
+    /** Emit every impression which is due. */
+    override fun run() {
+      scheduledAt = NOT_SCHEDULED
+      if (isDisposed) {
+        return
+      }
+      val now = SystemClock.uptimeMillis()
+      val itemCount = adapter?.itemCount ?: 0
+      var impressions: MutableList<RecyclerViewItemImpression>? = null
+      for (i in 0 until visible.size) {
+        val since = visible.valueAt(i)
+        if (since == REPORTED || now - since < minDwellMillis) {
+          continue
+        }
+        val position = visible.keyAt(i)
+        val itemId = if (position < itemCount) itemIdAt(position) else NO_ID
+        if (impressions == null) {
+          impressions = ArrayList()
+        }
+        impressions.add(RecyclerViewItemImpression(position, itemId, now - since))
+        visible.setValueAt(i, REPORTED)
+      }
+      if (impressions != null) {
+        observer.onNext(impressions)
+      }
+      schedule()
+    }
+
+    private fun itemIdAt(position: Int): Long {
+      val adapter = adapter ?: return NO_ID
+      return if (adapter.hasStableIds()) adapter.getItemId(position) else NO_ID
+    }
+
+    /** Post [run] for the earliest pending impression unless it is already posted. */
+    private fun schedule() {
+      var earliest = NOT_SCHEDULED
+      for (i in 0 until visible.size) {
+        val since = visible.valueAt(i)
+        if (since != REPORTED && since < earliest) {
+          earliest = since
+        }
+      }
+      if (earliest == NOT_SCHEDULED) {
+        // Nothing is pending. A posted callback is harmless and will find nothing to emit.
+        return
+      }
+      val at = earliest + minDwellMillis
+      if (at < scheduledAt) {
+        mainHandler.removeCallbacks(this)
+        mainHandler.postAtTime(this, at)
+        scheduledAt = at
+      }
+    }
+
+    override fun onDispose() {
+      recyclerView.removeOnScrollListener(scrollListener)
+      adapter?.unregisterAdapterDataObserver(dataObserver)
+      adapter = null
+      mainHandler.removeCallbacks(this)
+      if (layoutPending) {
+        @Suppress("DEPRECATION") // Correct when minSdk 16.
+        recyclerView.viewTreeObserver.removeGlobalOnLayoutListener(layoutListener)
+      }
+    }
+  }
+}
+
+private const val REPORTED = -1L
+private const val NOT_SCHEDULED = Long.MAX_VALUE
+
+/**
+ * A map from adapter position to the uptime at which it became visible, held in sorted parallel
+ * primitive arrays. Positions which are not marked between [beginPass] and [endPass] are removed.
+ */
+internal class PositionTimestamps {
+  private var keys = IntArray(16)
+  private var values = LongArray(16)
+  private var marked = BooleanArray(16)
+  var size = 0
+    private set
+
+  fun keyAt(index: Int) = keys[index]
+  fun valueAt(index: Int) = values[index]
+
+  fun setValueAt(index: Int, value: Long) {
+    values[index] = value
+  }
+
+  fun clear() {
+    size = 0
+  }
+
+  fun beginPass() {
+    marked.fill(false, 0, size)
+  }
+
+  /** Mark `position` as visible, recording `now` if it was not already visible. */
+  fun mark(position: Int, now: Long) {
+    var index = binarySearch(position)
+    if (index < 0) {
+      index = index.inv()
+      if (size == keys.size) {
+        val capacity = size * 2
+        keys = keys.copyOf(capacity)
+        values = values.copyOf(capacity)
+        marked = marked.copyOf(capacity)
+      }
+      System.arraycopy(keys, index, keys, index + 1, size - index)
+      System.arraycopy(values, index, values, index + 1, size - index)
+      System.arraycopy(marked, index, marked, index + 1, size - index)
+      keys[index] = position
+      values[index] = now
+      size++
+    }
+    marked[index] = true
+  }
+
+  fun endPass() {
+    var out = 0
+    for (i in 0 until size) {
+      if (marked[i]) {
+        keys[out] = keys[i]
+        values[out] = values[i]
+        marked[out] = true
+        out++
+      }
+    }
+    size = out
+  }
+
+  /** Remove positions in [`start`, `end`). */
+  fun removeRange(start: Int, end: Int) {
+    var out = 0
+    for (i in 0 until size) {
+      if (keys[i] < start || keys[i] >= end) {
+        keys[out] = keys[i]
+        values[out] = values[i]
+        out++
+      }
+    }
+    size = out
+  }
+
+  /** Add `delta` to every position at or after `start`. Order is preserved. */
+  fun shift(start: Int, delta: Int) {
+    for (i in 0 until size) {
+      if (keys[i] >= start) {
+        keys[i] += delta
+      }
+    }
+  }
+
+  /**
+   * Move the `count` positions at `from` to `to`, shifting the positions in between to make room.
+   * Timestamps move with their positions.
+   */
+  fun move(from: Int, to: Int, count: Int) {
+    if (from == to) {
+      return
+    }
+    for (i in 0 until size) {
+      val key = keys[i]
+      keys[i] = when {
+        key >= from && key < from + count -> key - from + to
+        from < to && key >= from + count && key < to + count -> key - count
+        to < from && key >= to && key < from -> key + count
+        else -> key
+      }
+    }
+    // Only keys within the moved span changed order relative to each other. Insertion sort is
+    // linear for the nearly sorted result.
+    for (i in 1 until size) {
+      val key = keys[i]
+      val value = values[i]
+      val mark = marked[i]
+      var j = i - 1
+      while (j >= 0 && keys[j] > key) {
+        keys[j + 1] = keys[j]
+        values[j + 1] = values[j]
+        marked[j + 1] = marked[j]
+        j--
+      }
+      keys[j + 1] = key
+      values[j + 1] = value
+      marked[j + 1] = mark
+    }
+  }
+
+  private fun binarySearch(key: Int): Int {
+    var low = 0
+    var high = size - 1
+    while (low <= high) {
+      val mid = (low + high) ushr 1
+      val midKey = keys[mid]
+      when {
+        midKey < key -> low = mid + 1
+        midKey > key -> high = mid - 1
+        else -> return mid
+      }
+    }
+    return low.inv()
+  }
+}
@@ -0,0 +1,128 @@
+@file:JvmMultifileClass
+@file:JvmName("RxRecyclerView")
+
+package com.jakewharton.rxbinding4.recyclerview
+
+import android.view.GestureDetector
+import android.view.MotionEvent
+import androidx.annotation.CheckResult
+import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.RecyclerView.NO_POSITION
+import androidx.recyclerview.widget.RecyclerView.SCROLL_STATE_IDLE
+import com.jakewharton.rxbinding4.IntObservable
+import com.jakewharton.rxbinding4.IntObserver
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
+
+/**
+ * Create a source of the adapter positions of items clicked in `view` which delivers values
+ * without boxing.
+ *
+ * A single [RecyclerView.OnItemTouchListener] detects taps and resolves the item under them, so
+ * no listener needs to be set on each bound item view.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* Touches are observed but never consumed. An item view which is itself clickable
+ * still receives the click. A tap which stops a fling is not a click. Clicks performed through
+ * accessibility services or the keyboard do not touch `view` and are not delivered.
+ */
+@CheckResult
+fun RecyclerView.itemClicks(): IntObservable =
+    RecyclerViewItemClickObservable(this, longClicks = false)
+
+/**
+ * Create a source of the adapter positions of items long-clicked in `view` which delivers values
+ * without boxing.
+ *
+ * A single [RecyclerView.OnItemTouchListener] detects long presses and resolves the item under
+ * them, so no listener needs to be set on each bound item view.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* Touches are observed but never consumed. An item view which is itself
+ * long-clickable still receives the long click. A press which stops a fling is not a long click.
+ * Long clicks performed through accessibility services do not touch `view` and are not
+ * delivered.
+ */
+@CheckResult
+fun RecyclerView.itemLongClicks(): IntObservable =
+    RecyclerViewItemClickObservable(this, longClicks = true)
+
+private class RecyclerViewItemClickObservable(
+  private val view: RecyclerView,
+  private val longClicks: Boolean
+) : IntObservable() {
+
+  override fun subscribeActual(observer: IntObserver): Disposable {
+    val listener = Listener(view, longClicks, observer)
+    view.addOnItemTouchListener(listener)
+    return listener
+  }
+
+  class Listener(
+    private val recyclerView: RecyclerView,
+    private val longClicks: Boolean,
+    private val observer: IntObserver
+  ) : MainThreadDisposable(), RecyclerView.OnItemTouchListener {
+    private val detector = GestureDetector(recyclerView.context,
+        object : GestureDetector.SimpleOnGestureListener() {
+          override fun onSingleTapUp(e: MotionEvent): Boolean {
+            if (!longClicks) {
+              emit(e)
+            }
+            return false
+          }
+
+          override fun onLongPress(e: MotionEvent) {
+            if (longClicks) {
+              emit(e)
+            }
+          }
+        }).apply {
+      // A click is delivered on release regardless of how long the press was unless long
+      // presses are being observed.
+      setIsLongpressEnabled(longClicks)
+    }
+
+    /** True when the current gesture began by stopping a fling or other scroll. */
+    private var stoppedScroll = false
+
+    private fun emit(e: MotionEvent) {
+      if (isDisposed || stoppedScroll) {
+        return
+      }
+      val child = recyclerView.findChildViewUnder(e.x, e.y) ?: return
+      val position = recyclerView.getChildAdapterPosition(child)
+      if (position != NO_POSITION) {
+        observer.onNext(position)
+      }
+    }
+
+    override fun onInterceptTouchEvent(rv: RecyclerView, e: MotionEvent): Boolean {
+      if (e.actionMasked == MotionEvent.ACTION_DOWN) {
+        // RecyclerView consumes a down which stops a fling but its up still reaches us.
+        stoppedScroll = rv.scrollState != SCROLL_STATE_IDLE
+      }
+      detector.onTouchEvent(e)
+      return false
+    }
+
+    override fun onTouchEvent(rv: RecyclerView, e: MotionEvent) = Unit
+
+    override fun onRequestDisallowInterceptTouchEvent(disallowIntercept: Boolean) {
+      if (disallowIntercept) {
+        // The rest of this gesture will not be seen. Cancel any pending tap or long press.
+        val cancel = MotionEvent.obtain(0L, 0L, MotionEvent.ACTION_CANCEL, 0f, 0f, 0)
+        detector.onTouchEvent(cancel)
+        cancel.recycle()
+      }
+    }
+
+    override fun onDispose() {
+      recyclerView.removeOnItemTouchListener(this)
+    }
+  }
+}
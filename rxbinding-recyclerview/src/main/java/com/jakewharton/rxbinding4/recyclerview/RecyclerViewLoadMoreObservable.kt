@@ -0,0 +1,125 @@
+@file:JvmMultifileClass
+@file:JvmName("RxRecyclerView")
+
+package com.jakewharton.rxbinding4.recyclerview
+
+import androidx.annotation.CheckResult
+import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.RecyclerView.Adapter
+import androidx.recyclerview.widget.RecyclerView.AdapterDataObserver
+import androidx.recyclerview.widget.RecyclerView.NO_POSITION
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+
+/**
+ * Create an observable which emits the adapter item count of `view` when the last visible item
+ * comes within `threshold` items of the end of the adapter, such as to load the next page of an
+ * infinitely scrolling list.
+ *
+ * After a request is emitted no further requests are emitted until the adapter item count
+ * changes. A load which adds no items therefore does not cause a request on every scroll, and
+ * marks the end of the list until the adapter changes for some other reason.
+ *
+ * Works with [androidx.recyclerview.widget.LinearLayoutManager] (including
+ * [androidx.recyclerview.widget.GridLayoutManager]),
+ * [androidx.recyclerview.widget.StaggeredGridLayoutManager], and any other layout manager.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* A request will be emitted immediately on subscribe if the threshold has already been
+ * reached, such as when the first page does not fill `view`.
+ */
+@CheckResult
+@JvmOverloads
+fun RecyclerView.loadMoreRequests(threshold: Int = 5): Observable<Int> {
+  require(threshold >= 0) { "threshold must be non-negative: $threshold" }
+  return RecyclerViewLoadMoreObservable(this, threshold)
+}
+
+private class RecyclerViewLoadMoreObservable(
+  private val view: RecyclerView,
+  private val threshold: Int
+) : Observable<Int>() {
+
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, threshold, observer)
+    observer.onSubscribe(listener)
+    view.addOnScrollListener(listener.scrollListener)
+    listener.check()
+  }
+
+  class Listener(
+    private val recyclerView: RecyclerView,
+    private val threshold: Int,
+    private val observer: Observer<in Int>
+  ) : MainThreadDisposable() {
+    private var adapter: Adapter<*>? = null
+    private var requestedCount = NOT_REQUESTED
+
+    // RecyclerView also calls onScrolled with zero deltas after a layout changes the visible
+    // items, which covers a page of items being appended.
+    val scrollListener = object : RecyclerView.OnScrollListener() {
+      override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+        if (!isDisposed) {
+          check()
+        }
+      }
+    }
+
+    private val dataObserver = object : AdapterDataObserver() {
+      override fun onChanged() {
+        itemCountMayHaveChanged()
+      }
+
+      override fun onItemRangeInserted(positionStart: Int, itemCount: Int) {
+        itemCountMayHaveChanged()
+      }
+
+      override fun onItemRangeRemoved(positionStart: Int, itemCount: Int) {
+        itemCountMayHaveChanged()
+      }
+    }
+
+    private fun itemCountMayHaveChanged() {
+      if (adapter?.itemCount != requestedCount) {
+        requestedCount = NOT_REQUESTED
+      }
+    }
+
+    fun check() {
+      val currentAdapter = recyclerView.adapter
+      if (currentAdapter !== adapter) {
+        adapter?.unregisterAdapterDataObserver(dataObserver)
+        currentAdapter?.registerAdapterDataObserver(dataObserver)
+        adapter = currentAdapter
+        requestedCount = NOT_REQUESTED
+      }
+      if (currentAdapter == null || requestedCount != NOT_REQUESTED) {
+        return
+      }
+      val itemCount = currentAdapter.itemCount
+      val last = PositionRange.last(recyclerView.visiblePositionRange(false))
+      if (last != NO_POSITION && last >= itemCount - 1 - threshold) {
+        requestedCount = itemCount
+        observer.onNext(itemCount)
+      }
+    }
+
+    override fun onDispose() {
+      recyclerView.removeOnScrollListener(scrollListener)
+      adapter?.unregisterAdapterDataObserver(dataObserver)
+      adapter = null
+    }
+  }
+}
+
+private const val NOT_REQUESTED = -1
@@ -0,0 +1,83 @@
+@file:JvmMultifileClass
+@file:JvmName("RxRecyclerView")
+
+package com.jakewharton.rxbinding4.recyclerview
+
+import androidx.annotation.CheckResult
+import androidx.recyclerview.widget.RecyclerView
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+
+/**
+ * Create an observable of scroll events on `recyclerView` which does not allocate per event.
+ *
+ * *Warning:* Values emitted by this observable are **mutable** and the same instance is
+ * re-emitted for every event of a subscription and thus are **not safe** to cache or delay
+ * reading (such as by observing on a different thread). If you want to cache or delay reading
+ * the items emitted then you must map values through [MutableRecyclerViewScrollEvent.toImmutable]
+ * to create a copy.
+ *
+ * *Warning:* The created observable keeps a strong reference to `recyclerView`.
+ * Unsubscribe to free this reference.
+ */
+@CheckResult
+fun RecyclerView.mutableScrollEvents(): Observable<MutableRecyclerViewScrollEvent> =
+    RecyclerViewMutableScrollEventObservable(this)
+
+/**
+ * A scroll event on a recyclerView whose instance is reused for every event of a subscription.
+ *
+ * **Warning:** Instances keep a strong reference to the recyclerView. Operators that
+ * cache instances have the potential to leak the associated [android.content.Context].
+ */
+class MutableRecyclerViewScrollEvent internal constructor(val view: RecyclerView) {
+  var dx: Int = 0
+    internal set
+  var dy: Int = 0
+    internal set
+
+  /** Create an immutable copy of the current values. */
+  fun toImmutable() = RecyclerViewScrollEvent(view, dx, dy)
+
+  override fun toString() = "MutableRecyclerViewScrollEvent(view=$view, dx=$dx, dy=$dy)"
+}
+
+private class RecyclerViewMutableScrollEventObservable(
+  private val view: RecyclerView
+) : Observable<MutableRecyclerViewScrollEvent>() {
+
+  override fun subscribeActual(downstream: Observer<in MutableRecyclerViewScrollEvent>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.addOnScrollListener(listener.scrollListener)
+  }
+
+  class Listener(
+    private val recyclerView: RecyclerView,
+    observer: Observer<in MutableRecyclerViewScrollEvent>
+  ) : MainThreadDisposable() {
+    private val event = MutableRecyclerViewScrollEvent(recyclerView)
+
+    val scrollListener = object : RecyclerView.OnScrollListener() {
+      override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+        if (!isDisposed) {
+          event.dx = dx
+          event.dy = dy
+          observer.onNext(event)
+        }
+      }
+    }
+
+    override fun onDispose() {
+      recyclerView.removeOnScrollListener(scrollListener)
+    }
+  }
+}
@@ -0,0 +1,125 @@
+@file:JvmMultifileClass
+@file:JvmName("RxRecyclerView")
+
+package com.jakewharton.rxbinding4.recyclerview
+
+import androidx.annotation.CheckResult
+import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.RecyclerView.SCROLL_STATE_IDLE
+import androidx.recyclerview.widget.RecyclerView.SCROLL_STATE_SETTLING
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
+import java.util.ArrayDeque
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+
+/**
+ * Create an observable which mirrors this observable except while `recyclerView` is settling,
+ * such as after a fling. Values emitted while settling are buffered and emitted once
+ * `recyclerView` becomes idle, or dropped if `dropWhilePaused` is true.
+ *
+ * Use this to defer expensive work triggered by the values, such as image decoding or diffing,
+ * so that it does not compete with a fling for frame time.
+ *
+ * *Warning:* This observable must be subscribed to on the main thread and its upstream must
+ * emit on the main thread.
+ *
+ * *Warning:* The created observable keeps a strong reference to `recyclerView`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* Buffered values are unbounded. An error is delivered immediately, discarding any
+ * buffered values, while completion is delivered after buffered values have been emitted.
+ */
+@CheckResult
+@JvmOverloads
+fun <T : Any> Observable<T>.pauseWhileFlinging(
+  recyclerView: RecyclerView,
+  dropWhilePaused: Boolean = false
+): Observable<T> {
+  return PauseWhileFlingingObservable(this, recyclerView, dropWhilePaused)
+}
+
+private class PauseWhileFlingingObservable<T : Any>(
+  private val upstream: Observable<T>,
+  private val view: RecyclerView,
+  private val dropWhilePaused: Boolean
+) : Observable<T>() {
+
+  override fun subscribeActual(observer: Observer<in T>) {
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val gate = Gate(view, dropWhilePaused, observer)
+    view.addOnScrollListener(gate.scrollListener)
+    upstream.subscribe(gate)
+  }
+
+  private class Gate<T : Any>(
+    private val view: RecyclerView,
+    private val dropWhilePaused: Boolean,
+    private val downstream: Observer<in T>
+  ) : MainThreadDisposable(), Observer<T> {
+    private lateinit var upstream: Disposable
+    private val buffer = ArrayDeque<T>()
+    private var paused = view.scrollState == SCROLL_STATE_SETTLING
+    private var done = false
+
+    val scrollListener = object : RecyclerView.OnScrollListener() {
+      override fun onScrollStateChanged(recyclerView: RecyclerView, newState: Int) {
+        if (newState == SCROLL_STATE_SETTLING) {
+          paused = true
+        } else if (newState == SCROLL_STATE_IDLE && paused) {
+          paused = false
+          drain()
+        }
+      }
+    }
+
+    override fun onSubscribe(d: Disposable) {
+      upstream = d
+      downstream.onSubscribe(this)
+    }
+
+    override fun onNext(t: T) {
+      if (!paused) {
+        downstream.onNext(t)
+      } else if (!dropWhilePaused) {
+        buffer.add(t)
+      }
+    }
+
+    override fun onError(e: Throwable) {
+      buffer.clear()
+      view.removeOnScrollListener(scrollListener)
+      downstream.onError(e)
+    }
+
+    override fun onComplete() {
+      if (buffer.isEmpty()) {
+        view.removeOnScrollListener(scrollListener)
+        downstream.onComplete()
+      } else {
+        done = true
+      }
+    }
+
+    private fun drain() {
+      while (!paused && !isDisposed) {
+        val value = buffer.poll() ?: break
+        downstream.onNext(value)
+      }
+      if (done && buffer.isEmpty() && !isDisposed) {
+        view.removeOnScrollListener(scrollListener)
+        downstream.onComplete()
+      }
+    }
+
+    override fun onDispose() {
+      upstream.dispose()
+      view.removeOnScrollListener(scrollListener)
+      buffer.clear()
+    }
+  }
+}
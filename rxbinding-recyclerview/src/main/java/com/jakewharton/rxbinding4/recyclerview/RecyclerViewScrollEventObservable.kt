@@ -9,8 +9,10 @@ import androidx.recyclerview.widget.RecyclerView
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import java.lang.ref.WeakReference
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of scroll events on `recyclerView`.
@@ -34,7 +36,8 @@ private class RecyclerViewScrollEventObservable(
   private val view: RecyclerView
 ) : Observable<RecyclerViewScrollEvent>() {
 
-  override fun subscribeActual(observer: Observer<in RecyclerViewScrollEvent>) {
+  override fun subscribeActual(downstream: Observer<in RecyclerViewScrollEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -63,3 +66,50 @@ private class RecyclerViewScrollEventObservable(
     }
   }
 }
+
+/**
+ * Create an observable of scroll deltas on `recyclerView`.
+ *
+ * Unlike [scrollEvents], neither the created observable nor its subscriptions keep a strong
+ * reference to `recyclerView` and the emitted values do not reference it. A subscription which
+ * outlives `recyclerView` does not keep it or its [Context] reachable.
+ */
+@CheckResult
+fun RecyclerView.weakScrollEvents(): Observable<RecyclerViewScrollDelta> =
+    RecyclerViewWeakScrollEventObservable(WeakReference(this))
+
+/** A scroll of a recyclerView by [dx] and [dy] pixels. */
+data class RecyclerViewScrollDelta(val dx: Int, val dy: Int)
+
+private class RecyclerViewWeakScrollEventObservable(
+  private val view: WeakReference<RecyclerView>
+) : Observable<RecyclerViewScrollDelta>() {
+
+  override fun subscribeActual(downstream: Observer<in RecyclerViewScrollDelta>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.get()?.addOnScrollListener(listener.scrollListener)
+  }
+
+  class Listener(
+    private val recyclerView: WeakReference<RecyclerView>,
+    observer: Observer<in RecyclerViewScrollDelta>
+  ) : MainThreadDisposable() {
+
+    val scrollListener = object : RecyclerView.OnScrollListener() {
+      override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+        if (!isDisposed) {
+          observer.onNext(RecyclerViewScrollDelta(dx, dy))
+        }
+      }
+    }
+
+    override fun onDispose() {
+      recyclerView.get()?.removeOnScrollListener(scrollListener)
+    }
+  }
+}
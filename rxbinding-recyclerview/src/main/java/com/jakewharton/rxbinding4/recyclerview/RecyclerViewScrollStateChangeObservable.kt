@@ -10,12 +10,16 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of scroll state changes on `recyclerView`.
  *
  * *Warning:* The created observable keeps a strong reference to `recyclerView`.
  * Unsubscribe to free this reference.
+ *
+ * *Note:* There is no primitive variant of this observable. Scroll states are small constants
+ * whose boxes come from the [Integer] cache, so emitting them never allocates.
  */
 @CheckResult
 fun RecyclerView.scrollStateChanges(): Observable<Int> =
@@ -25,7 +29,8 @@ private class RecyclerViewScrollStateChangeObservable(
   private val view: RecyclerView
 ) : Observable<Int>() {
 
-  override fun subscribeActual(observer: Observer<in Int>) {
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
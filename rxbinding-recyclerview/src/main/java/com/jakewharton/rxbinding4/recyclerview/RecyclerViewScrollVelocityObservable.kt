@@ -0,0 +1,68 @@
+@file:JvmMultifileClass
+@file:JvmName("RxRecyclerView")
+
+package com.jakewharton.rxbinding4.recyclerview
+
+import android.view.animation.AnimationUtils
+import androidx.annotation.CheckResult
+import androidx.recyclerview.widget.RecyclerView
+import com.jakewharton.rxbinding4.FloatObservable
+import com.jakewharton.rxbinding4.FloatObserver
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
+
+import com.jakewharton.rxbinding4.internal.VelocityEstimator
+
+/**
+ * Create a source of the scroll velocity of `view` in pixels per second along the axis in which
+ * its layout manager scrolls, which delivers values without boxing.
+ *
+ * The velocity is averaged over recent scroll events to smooth irregular event timing. A value
+ * of zero is delivered when scrolling stops.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ */
+@CheckResult
+fun RecyclerView.scrollVelocities(): FloatObservable =
+    RecyclerViewScrollVelocityObservable(this)
+
+private class RecyclerViewScrollVelocityObservable(
+  private val view: RecyclerView
+) : FloatObservable() {
+
+  override fun subscribeActual(observer: FloatObserver): Disposable {
+    val listener = Listener(view, observer)
+    view.addOnScrollListener(listener.scrollListener)
+    return listener
+  }
+
+  class Listener(
+    private val recyclerView: RecyclerView,
+    observer: FloatObserver
+  ) : MainThreadDisposable() {
+    private val estimator = VelocityEstimator()
+
+    val scrollListener = object : RecyclerView.OnScrollListener() {
+      override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+        if (!isDisposed && (dx != 0 || dy != 0)) {
+          val vertical = recyclerView.layoutManager?.canScrollVertically() ?: true
+          val delta = if (vertical) dy else dx
+          val time = AnimationUtils.currentAnimationTimeMillis()
+          observer.onNext(estimator.add(time, delta.toFloat()))
+        }
+      }
+
+      override fun onScrollStateChanged(recyclerView: RecyclerView, newState: Int) {
+        if (!isDisposed && newState == RecyclerView.SCROLL_STATE_IDLE) {
+          estimator.reset()
+          observer.onNext(0f)
+        }
+      }
+    }
+
+    override fun onDispose() {
+      recyclerView.removeOnScrollListener(scrollListener)
+    }
+  }
+}
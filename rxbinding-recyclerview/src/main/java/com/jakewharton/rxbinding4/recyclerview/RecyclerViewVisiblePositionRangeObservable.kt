@@ -0,0 +1,157 @@
+@file:JvmMultifileClass
+@file:JvmName("RxRecyclerView")
+
+package com.jakewharton.rxbinding4.recyclerview
+
+import androidx.annotation.CheckResult
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.RecyclerView.NO_POSITION
+import androidx.recyclerview.widget.StaggeredGridLayoutManager
+import com.jakewharton.rxbinding4.LongObservable
+import com.jakewharton.rxbinding4.LongObserver
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
+
+/**
+ * Create a source of the range of adapter positions visible in `view` which delivers values
+ * without boxing. Each range is packed into a `long`. Use [PositionRange] to unpack it.
+ *
+ * A value is delivered only when the range changes, whether from scrolling, layout, or adapter
+ * updates. When no items are visible both positions are [RecyclerView.NO_POSITION].
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* A value will be delivered immediately on subscribe.
+ *
+ * @param completelyVisible Only include items which are completely visible.
+ */
+@CheckResult
+@JvmOverloads
+fun RecyclerView.visiblePositionRanges(completelyVisible: Boolean = false): LongObservable =
+    RecyclerViewVisiblePositionRangeObservable(this, completelyVisible)
+
+/** Packs and unpacks the ranges delivered by [visiblePositionRanges]. */
+object PositionRange {
+  /** The range in which no items are visible. */
+  @JvmField
+  val NONE = pack(NO_POSITION, NO_POSITION)
+
+  @JvmStatic
+  fun pack(first: Int, last: Int): Long = (first.toLong() shl 32) or (last.toLong() and 0xFFFFFFFF)
+
+  /** The first position of `range`, inclusive. */
+  @JvmStatic
+  fun first(range: Long): Int = (range shr 32).toInt()
+
+  /** The last position of `range`, inclusive. */
+  @JvmStatic
+  fun last(range: Long): Int = range.toInt()
+}
+
+private class RecyclerViewVisiblePositionRangeObservable(
+  private val view: RecyclerView,
+  private val completelyVisible: Boolean
+) : LongObservable() {
+
+  override fun subscribeActual(observer: LongObserver): Disposable {
+    val listener = Listener(view, completelyVisible, observer)
+    view.addOnScrollListener(listener.scrollListener)
+    observer.onNext(listener.range)
+    return listener
+  }
+
+  class Listener(
+    private val recyclerView: RecyclerView,
+    private val completelyVisible: Boolean,
+    observer: LongObserver
+  ) : MainThreadDisposable() {
+    var range = recyclerView.visiblePositionRange(completelyVisible)
+      private set
+
+    // RecyclerView also calls onScrolled with zero deltas after a layout changes the visible
+    // items, which covers adapter updates and size changes.
+    val scrollListener = object : RecyclerView.OnScrollListener() {
+      override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
+        val newRange = recyclerView.visiblePositionRange(completelyVisible)
+        if (newRange != range && !isDisposed) {
+          range = newRange
+          observer.onNext(newRange)
+        }
+      }
+    }
+
+    override fun onDispose() {
+      recyclerView.removeOnScrollListener(scrollListener)
+    }
+  }
+}
+
+/** The packed range of adapter positions visible in this view. See [PositionRange]. */
+internal fun RecyclerView.visiblePositionRange(completelyVisible: Boolean): Long {
+  return when (val layoutManager = layoutManager) {
+    is LinearLayoutManager -> if (completelyVisible) {
+      PositionRange.pack(layoutManager.findFirstCompletelyVisibleItemPosition(),
+          layoutManager.findLastCompletelyVisibleItemPosition())
+    } else {
+      PositionRange.pack(layoutManager.findFirstVisibleItemPosition(),
+          layoutManager.findLastVisibleItemPosition())
+    }
+    is StaggeredGridLayoutManager -> computeStaggeredRange(layoutManager, completelyVisible)
+    else -> computeChildRange(layoutManager, completelyVisible)
+  }
+}
+
+private fun computeStaggeredRange(
+  layoutManager: StaggeredGridLayoutManager,
+  completelyVisible: Boolean
+): Long {
+  val firsts: IntArray
+  val lasts: IntArray
+  if (completelyVisible) {
+    firsts = layoutManager.findFirstCompletelyVisibleItemPositions(null)
+    lasts = layoutManager.findLastCompletelyVisibleItemPositions(null)
+  } else {
+    firsts = layoutManager.findFirstVisibleItemPositions(null)
+    lasts = layoutManager.findLastVisibleItemPositions(null)
+  }
+  var first = Int.MAX_VALUE
+  for (position in firsts) {
+    if (position != NO_POSITION && position < first) {
+      first = position
+    }
+  }
+  val last = lasts.max() ?: NO_POSITION
+  return if (first == Int.MAX_VALUE) PositionRange.NONE else PositionRange.pack(first, last)
+}
+
+/** Fallback for other layout managers which may lay out children in any order. */
+private fun RecyclerView.computeChildRange(
+  layoutManager: RecyclerView.LayoutManager?,
+  completelyVisible: Boolean
+): Long {
+  if (layoutManager == null) {
+    return PositionRange.NONE
+  }
+  var first = Int.MAX_VALUE
+  var last = NO_POSITION
+  for (i in 0 until layoutManager.childCount) {
+    val child = layoutManager.getChildAt(i) ?: continue
+    val left = layoutManager.getDecoratedLeft(child)
+    val top = layoutManager.getDecoratedTop(child)
+    val right = layoutManager.getDecoratedRight(child)
+    val bottom = layoutManager.getDecoratedBottom(child)
+    val visible = if (completelyVisible) {
+      left >= 0 && top >= 0 && right <= width && bottom <= height
+    } else {
+      left < width && top < height && right > 0 && bottom > 0
+    }
+    val position = layoutManager.getPosition(child)
+    if (visible && position != NO_POSITION) {
+      first = minOf(first, position)
+      last = maxOf(last, position)
+    }
+  }
+  return if (first == Int.MAX_VALUE) PositionRange.NONE else PositionRange.pack(first, last)
+}
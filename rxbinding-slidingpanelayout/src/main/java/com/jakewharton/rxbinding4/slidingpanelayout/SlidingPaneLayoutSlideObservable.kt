@@ -6,11 +6,15 @@ package com.jakewharton.rxbinding4.slidingpanelayout
 import android.view.View
 import androidx.annotation.CheckResult
 import androidx.slidingpanelayout.widget.SlidingPaneLayout
+import com.jakewharton.rxbinding4.FloatObservable
+import com.jakewharton.rxbinding4.FloatObserver
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of the slide offset of the pane of `view`
@@ -30,7 +34,8 @@ private class SlidingPaneLayoutSlideObservable(
   private val view: SlidingPaneLayout
 ) : Observable<Float>() {
 
-  override fun subscribeActual(observer: Observer<in Float>) {
+  override fun subscribeActual(downstream: Observer<in Float>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -61,3 +66,51 @@ private class SlidingPaneLayoutSlideObservable(
     }
   }
 }
+
+/**
+ * Create a source of the slide offset of the pane of `view` which delivers values without
+ * boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Warning:* The created source uses [SlidingPaneLayout.setPanelSlideListener]
+ * to observe dismiss change. Only one source or observable can be used for a view at a time.
+ */
+@CheckResult
+fun SlidingPaneLayout.primitivePanelSlides(): FloatObservable {
+  return SlidingPaneLayoutPrimitiveSlideObservable(this)
+}
+
+private class SlidingPaneLayoutPrimitiveSlideObservable(
+  private val view: SlidingPaneLayout
+) : FloatObservable() {
+
+  override fun subscribeActual(observer: FloatObserver): Disposable {
+    val listener = Listener(view, observer)
+    view.setPanelSlideListener(listener)
+    return listener
+  }
+
+  private class Listener(
+    private val view: SlidingPaneLayout,
+    private val observer: FloatObserver
+  ) : MainThreadDisposable(), SlidingPaneLayout.PanelSlideListener {
+
+    override fun onPanelSlide(panel: View, slideOffset: Float) {
+      if (!isDisposed) {
+        observer.onNext(slideOffset)
+      }
+    }
+
+    override fun onPanelOpened(panel: View) {
+    }
+
+    override fun onPanelClosed(panel: View) {
+    }
+
+    override fun onDispose() {
+      view.setPanelSlideListener(null)
+    }
+  }
+}
@@ -11,6 +11,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of refresh events on `view`.
@@ -27,7 +28,8 @@ private class SwipeRefreshLayoutRefreshObservable(
   private val view: SwipeRefreshLayout
 ) : Observable<Unit>() {
 
-  override fun subscribeActual(observer: Observer<in Unit>) {
+  override fun subscribeActual(downstream: Observer<in Unit>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -19,6 +19,7 @@ import org.junit.Test;
 import static androidx.test.espresso.Espresso.onView;
 import static androidx.test.espresso.matcher.ViewMatchers.withId;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public final class RxViewPagerTest {
@@ -58,6 +59,37 @@ public final class RxViewPagerTest {
     o.assertNoMoreEvents();
   }
 
+  @Test @UiThreadTest public void mutablePageScrollEvents() {
+    view.setCurrentItem(0);
+    RecordingObserver<MutableViewPagerPageScrollEvent> o = new RecordingObserver<>();
+    RxViewPager.mutablePageScrollEvents(view).subscribe(o);
+    o.assertNoMoreEvents();
+
+    // Moving without animation scrolls directly to the page.
+    view.setCurrentItem(1, false);
+    MutableViewPagerPageScrollEvent event1 = o.takeNext();
+    assertSame(view, event1.getViewPager());
+    assertEquals(1, event1.getPosition());
+    assertEquals(0f, event1.getPositionOffset(), 0f);
+    assertEquals(0, event1.getPositionOffsetPixels());
+    ViewPagerPageScrollEvent copy = event1.toImmutable();
+    o.clearEvents();
+
+    view.setCurrentItem(3, false);
+    MutableViewPagerPageScrollEvent event2 = o.takeNext();
+    assertSame(event1, event2);
+    assertEquals(3, event2.getPosition());
+    assertEquals(0f, event2.getPositionOffset(), 0f);
+    assertEquals(0, event2.getPositionOffsetPixels());
+    assertEquals(new ViewPagerPageScrollEvent(view, 1, 0f, 0), copy);
+    o.clearEvents();
+
+    o.dispose();
+
+    view.setCurrentItem(0, false);
+    o.assertNoMoreEvents();
+  }
+
   @Test public void pageScrollStateChanges() {
     view.setCurrentItem(0);
     RecordingObserver<Integer> o = new RecordingObserver<>();
@@ -0,0 +1,96 @@
+@file:JvmName("RxViewPager")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.viewpager
+
+import androidx.annotation.CheckResult
+import androidx.viewpager.widget.ViewPager
+import androidx.viewpager.widget.ViewPager.OnPageChangeListener
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+
+/**
+ * Create an observable of page scroll events on `view` which does not allocate per event.
+ *
+ * *Warning:* Values emitted by this observable are **mutable** and the same instance is
+ * re-emitted for every event of a subscription and thus are **not safe** to cache or delay
+ * reading (such as by observing on a different thread). If you want to cache or delay reading
+ * the items emitted then you must map values through
+ * [MutableViewPagerPageScrollEvent.toImmutable] to create a copy.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ */
+@CheckResult
+fun ViewPager.mutablePageScrollEvents(): Observable<MutableViewPagerPageScrollEvent> {
+  return ViewPagerMutablePageScrolledObservable(this)
+}
+
+/**
+ * A page scroll event on a viewPager whose instance is reused for every event of a
+ * subscription.
+ */
+class MutableViewPagerPageScrollEvent internal constructor(val viewPager: ViewPager) {
+  var position: Int = 0
+    internal set
+  var positionOffset: Float = 0f
+    internal set
+  var positionOffsetPixels: Int = 0
+    internal set
+
+  /** Create an immutable copy of the current values. */
+  fun toImmutable() =
+      ViewPagerPageScrollEvent(viewPager, position, positionOffset, positionOffsetPixels)
+
+  override fun toString(): String {
+    return "MutableViewPagerPageScrollEvent(viewPager=$viewPager, position=$position, " +
+        "positionOffset=$positionOffset, positionOffsetPixels=$positionOffsetPixels)"
+  }
+}
+
+private class ViewPagerMutablePageScrolledObservable(
+  private val view: ViewPager
+) : Observable<MutableViewPagerPageScrollEvent>() {
+
+  override fun subscribeActual(downstream: Observer<in MutableViewPagerPageScrollEvent>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.addOnPageChangeListener(listener)
+  }
+
+  private class Listener(
+    private val view: ViewPager,
+    private val observer: Observer<in MutableViewPagerPageScrollEvent>
+  ) : MainThreadDisposable(), OnPageChangeListener {
+    private val event = MutableViewPagerPageScrollEvent(view)
+
+    override fun onPageScrolled(position: Int, positionOffset: Float, positionOffsetPixels: Int) {
+      if (!isDisposed) {
+        event.position = position
+        event.positionOffset = positionOffset
+        event.positionOffsetPixels = positionOffsetPixels
+        observer.onNext(event)
+      }
+    }
+
+    override fun onPageSelected(position: Int) {
+
+    }
+
+    override fun onPageScrollStateChanged(state: Int) {
+
+    }
+
+    override fun onDispose() {
+      view.removeOnPageChangeListener(this)
+    }
+  }
+}
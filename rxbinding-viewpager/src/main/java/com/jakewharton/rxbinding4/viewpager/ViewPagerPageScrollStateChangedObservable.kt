@@ -11,6 +11,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of scroll state change events on `view`.
@@ -27,7 +28,8 @@ private class ViewPagerPageScrollStateChangedObservable(
   private val view: ViewPager
 ) : Observable<Int>() {
 
-  override fun subscribeActual(observer: Observer<in Int>) {
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -11,6 +11,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of page scroll events on `view`.
@@ -34,7 +35,8 @@ private class ViewPagerPageScrolledObservable(
   private val view: ViewPager
 ) : Observable<ViewPagerPageScrollEvent>() {
 
-  override fun subscribeActual(observer: Observer<in ViewPagerPageScrollEvent>) {
+  override fun subscribeActual(downstream: Observer<in ViewPagerPageScrollEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
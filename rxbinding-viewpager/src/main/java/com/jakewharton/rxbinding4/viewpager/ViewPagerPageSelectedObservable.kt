@@ -7,8 +7,11 @@ import androidx.annotation.CheckResult
 import androidx.viewpager.widget.ViewPager
 import androidx.viewpager.widget.ViewPager.OnPageChangeListener
 import com.jakewharton.rxbinding4.InitialValueObservable
+import com.jakewharton.rxbinding4.IntObservable
+import com.jakewharton.rxbinding4.IntObserver
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
 
 /**
  * Create an observable of page selected events on `view`.
@@ -57,3 +60,50 @@ private class ViewPagerPageSelectedObservable(
     }
   }
 }
+
+/**
+ * Create a source of page selected events on `view` which delivers values without boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* Unlike [pageSelections], no value is emitted on subscribe. Read
+ * [ViewPager.getCurrentItem] for the current value.
+ */
+@CheckResult
+fun ViewPager.primitivePageSelections(): IntObservable {
+  return ViewPagerPrimitivePageSelectedObservable(this)
+}
+
+private class ViewPagerPrimitivePageSelectedObservable(
+  private val view: ViewPager
+) : IntObservable() {
+
+  override fun subscribeActual(observer: IntObserver): Disposable {
+    val listener = Listener(view, observer)
+    view.addOnPageChangeListener(listener)
+    return listener
+  }
+
+  private class Listener(
+    private val view: ViewPager,
+    private val observer: IntObserver
+  ) : MainThreadDisposable(), OnPageChangeListener {
+
+    override fun onPageScrolled(position: Int, positionOffset: Float, positionOffsetPixels: Int) {
+    }
+
+    override fun onPageSelected(position: Int) {
+      if (!isDisposed) {
+        observer.onNext(position)
+      }
+    }
+
+    override fun onPageScrollStateChanged(state: Int) {
+    }
+
+    override fun onDispose() {
+      view.removeOnPageChangeListener(this)
+    }
+  }
+}
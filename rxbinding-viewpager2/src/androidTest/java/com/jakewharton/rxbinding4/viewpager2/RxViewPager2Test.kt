@@ -15,10 +15,13 @@ import androidx.viewpager2.widget.ViewPager2.SCROLL_STATE_DRAGGING
 import androidx.viewpager2.widget.ViewPager2.SCROLL_STATE_IDLE
 import androidx.viewpager2.widget.ViewPager2.SCROLL_STATE_SETTLING
 import com.jakewharton.rxbinding4.RecordingObserver
+import com.jakewharton.rxbinding4.subscribe
 import com.jakewharton.rxbinding4.viewpager2.RxViewPager2TestActivity.Companion.PAGER_ID
 import com.jakewharton.rxbinding4.viewpager2.RxViewPager2TestActivity.Companion.RAINBOW
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers
+import io.reactivex.rxjava3.disposables.Disposable
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
 import org.junit.Assert.assertTrue
 import org.junit.Before
 import org.junit.Rule
@@ -66,6 +69,44 @@ class RxViewPager2Test {
     recorder.assertNoMoreEvents()
   }
 
+  @Test
+  fun mutablePageScrollEvents() {
+    viewPager2.currentItem = 0
+    val events = mutableListOf<MutablePageScrollEvent>()
+    val copies = mutableListOf<PageScrollEvent>()
+    val expected = RecordingObserver<PageScrollEvent>()
+    lateinit var disposable: Disposable
+    instrumentation.runOnMainSync {
+      // Copies are taken on the main thread since the instance is reused for later events.
+      disposable = viewPager2.mutablePageScrollEvents().subscribe {
+        events += it
+        copies += it.toImmutable()
+      }
+      viewPager2.pageScrollEvents().subscribe(expected)
+    }
+
+    instrumentation.runOnMainSync { viewPager2.setCurrentItem(1, true) }
+    val first = expected.takeNext()
+    val second = expected.takeNext()
+    assertEquals(0, first.position)
+    assertTrue(second.positionOffsetPixels > 0)
+
+    lateinit var recorded: List<MutablePageScrollEvent>
+    lateinit var recordedCopies: List<PageScrollEvent>
+    instrumentation.runOnMainSync {
+      recorded = events.toList()
+      recordedCopies = copies.toList()
+      disposable.dispose()
+    }
+    assertSame(viewPager2, recorded[0].viewPager2)
+    assertSame(recorded[0], recorded[1])
+    assertEquals(first, recordedCopies[0])
+    assertEquals(second, recordedCopies[1])
+
+    expected.clearEvents()
+    expected.dispose()
+  }
+
   @Test
   fun pageScrollStateChanges() {
     viewPager2.currentItem = 0
@@ -112,6 +153,44 @@ class RxViewPager2Test {
     recorder.assertNoMoreEvents()
   }
 
+  @Test
+  @UiThreadTest
+  fun primitivePageSelections() {
+    viewPager2.currentItem = 0
+    val recorder = RecordingObserver<Int>()
+
+    viewPager2.primitivePageSelections()
+        .asObservable()
+        .subscribe(recorder)
+
+    recorder.assertNoMoreEvents() // No initial value.
+
+    viewPager2.currentItem = (RAINBOW.size / 2)
+    assertEquals(RAINBOW.size / 2, recorder.takeNext())
+
+    recorder.dispose()
+
+    viewPager2.currentItem = 0
+    recorder.assertNoMoreEvents()
+  }
+
+  @Test
+  @UiThreadTest
+  fun primitivePageSelectionsObserver() {
+    viewPager2.currentItem = 0
+    var last = -1
+
+    val disposable = viewPager2.primitivePageSelections().subscribe { last = it }
+
+    viewPager2.currentItem = (RAINBOW.size - 1)
+    assertEquals(RAINBOW.size - 1, last)
+
+    disposable.dispose()
+
+    viewPager2.currentItem = 0
+    assertEquals(RAINBOW.size - 1, last)
+  }
+
   private fun swipeLeft(): ViewAction =
     GeneralSwipeAction(
         Swipe.FAST, GeneralLocation.CENTER_RIGHT,
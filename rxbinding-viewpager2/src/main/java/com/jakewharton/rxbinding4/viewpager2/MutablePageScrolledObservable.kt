@@ -0,0 +1,96 @@
+@file:JvmName("RxViewPager2")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.viewpager2
+
+import androidx.annotation.CheckResult
+import androidx.viewpager2.widget.ViewPager2
+import androidx.viewpager2.widget.ViewPager2.OnPageChangeCallback
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+
+/**
+ * Create an observable of page scroll events on `view` which does not allocate per event.
+ *
+ * *Warning:* Values emitted by this observable are **mutable** and the same instance is
+ * re-emitted for every event of a subscription and thus are **not safe** to cache or delay
+ * reading (such as by observing on a different thread). If you want to cache or delay reading
+ * the items emitted then you must map values through [MutablePageScrollEvent.toImmutable] to
+ * create a copy.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ */
+@CheckResult
+fun ViewPager2.mutablePageScrollEvents(): Observable<MutablePageScrollEvent> =
+  MutablePageScrolledObservable(this)
+
+/**
+ * A page scroll event on a viewPager2 whose instance is reused for every event of a
+ * subscription.
+ */
+class MutablePageScrollEvent internal constructor(val viewPager2: ViewPager2) {
+  var position: Int = 0
+    internal set
+  var positionOffset: Float = 0f
+    internal set
+  var positionOffsetPixels: Int = 0
+    internal set
+
+  /** Create an immutable copy of the current values. */
+  fun toImmutable() = PageScrollEvent(
+      viewPager2 = viewPager2,
+      position = position,
+      positionOffset = positionOffset,
+      positionOffsetPixels = positionOffsetPixels
+  )
+
+  override fun toString(): String {
+    return "MutablePageScrollEvent(viewPager2=$viewPager2, position=$position, " +
+        "positionOffset=$positionOffset, positionOffsetPixels=$positionOffsetPixels)"
+  }
+}
+
+private class MutablePageScrolledObservable(
+  private val viewPager2: ViewPager2
+) : Observable<MutablePageScrollEvent>() {
+
+  override fun subscribeActual(downstream: Observer<in MutablePageScrollEvent>) {
+    val observer = instrument(this, downstream)
+    if (checkMainThread(observer)) {
+      RxPageChangeCallback(viewPager2, observer).run {
+        observer.onSubscribe(disposable)
+        viewPager2.registerOnPageChangeCallback(this)
+      }
+    }
+  }
+
+  private class RxPageChangeCallback(
+    private val viewPager2: ViewPager2,
+    private val observer: Observer<in MutablePageScrollEvent>
+  ) : OnPageChangeCallback() {
+    private val event = MutablePageScrollEvent(viewPager2)
+
+    val disposable = object : MainThreadDisposable() {
+      override fun onDispose() {
+        viewPager2.unregisterOnPageChangeCallback(this@RxPageChangeCallback)
+      }
+    }
+
+    override fun onPageScrolled(
+      position: Int,
+      positionOffset: Float,
+      positionOffsetPixels: Int
+    ) {
+      if (!disposable.isDisposed) {
+        event.position = position
+        event.positionOffset = positionOffset
+        event.positionOffsetPixels = positionOffsetPixels
+        observer.onNext(event)
+      }
+    }
+  }
+}
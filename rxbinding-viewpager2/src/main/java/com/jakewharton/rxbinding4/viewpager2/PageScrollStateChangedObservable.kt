@@ -7,6 +7,7 @@ import androidx.annotation.CheckResult
 import androidx.viewpager2.widget.ViewPager2
 import androidx.viewpager2.widget.ViewPager2.OnPageChangeCallback
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.android.MainThreadDisposable
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
@@ -23,7 +24,8 @@ fun ViewPager2.pageScrollStateChanges(): Observable<Int> =
 
 private class PageScrollStateChangedObservable(private val viewPager2: ViewPager2) : Observable<Int>() {
 
-  override fun subscribeActual(observer: Observer<in Int>) {
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
     if (checkMainThread(observer)) {
       RxPageChangeCallback(viewPager2, observer).run {
         observer.onSubscribe(disposable)
@@ -7,6 +7,7 @@ import androidx.annotation.CheckResult
 import androidx.viewpager2.widget.ViewPager2
 import androidx.viewpager2.widget.ViewPager2.OnPageChangeCallback
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.android.MainThreadDisposable
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
@@ -30,7 +31,8 @@ data class PageScrollEvent(
 
 private class PageScrolledObservable(private val viewPager2: ViewPager2) : Observable<PageScrollEvent>() {
 
-  override fun subscribeActual(observer: Observer<in PageScrollEvent>) {
+  override fun subscribeActual(downstream: Observer<in PageScrollEvent>) {
+    val observer = instrument(this, downstream)
     if (checkMainThread(observer)) {
       RxPageChangeCallback(viewPager2, observer).run {
         observer.onSubscribe(disposable)
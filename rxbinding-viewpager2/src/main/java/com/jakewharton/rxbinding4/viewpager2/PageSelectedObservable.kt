@@ -7,8 +7,11 @@ import androidx.annotation.CheckResult
 import androidx.viewpager2.widget.ViewPager2
 import androidx.viewpager2.widget.ViewPager2.OnPageChangeCallback
 import com.jakewharton.rxbinding4.InitialValueObservable
+import com.jakewharton.rxbinding4.IntObservable
+import com.jakewharton.rxbinding4.IntObserver
 import io.reactivex.rxjava3.android.MainThreadDisposable
 import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.disposables.Disposable
 
 /**
  * Create an observable of page selected events on `view`.
@@ -52,3 +55,46 @@ private class PageSelectedObservable(private val viewPager2: ViewPager2) : Initi
     }
   }
 }
+
+/**
+ * Create a source of page selected events on `view` which delivers values without boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* Unlike [pageSelections], no value is emitted on subscribe. Read
+ * [ViewPager2.getCurrentItem] for the current value.
+ */
+@CheckResult
+fun ViewPager2.primitivePageSelections(): IntObservable =
+  PrimitivePageSelectedObservable(this)
+
+private class PrimitivePageSelectedObservable(
+  private val viewPager2: ViewPager2
+) : IntObservable() {
+
+  override fun subscribeActual(observer: IntObserver): Disposable {
+    return RxPageChangeCallback(viewPager2, observer).run {
+      viewPager2.registerOnPageChangeCallback(this)
+      disposable
+    }
+  }
+
+  private class RxPageChangeCallback(
+    private val viewPager2: ViewPager2,
+    private val observer: IntObserver
+  ) : OnPageChangeCallback() {
+
+    val disposable = object : MainThreadDisposable() {
+      override fun onDispose() {
+        viewPager2.unregisterOnPageChangeCallback(this@RxPageChangeCallback)
+      }
+    }
+
+    override fun onPageSelected(position: Int) {
+      if (!disposable.isDisposed) {
+        observer.onNext(position)
+      }
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.jakewharton.rxbinding4;
+
+import android.content.Context;
+import android.view.View;
+import androidx.annotation.NonNull;
+import androidx.test.annotation.UiThreadTest;
+import androidx.test.core.app.ApplicationProvider;
+import com.jakewharton.rxbinding4.view.RxView;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.junit.Assert.assertEquals;
+
+public final class RxBindingPluginsTest {
+  private final Context context = ApplicationProvider.getApplicationContext();
+  private final View view = new View(context);
+  private final RecordingInstrumentation instrumentation = new RecordingInstrumentation();
+
+  @After public void tearDown() {
+    RxBindingPlugins.setInstrumentation(null);
+  }
+
+  @Test @UiThreadTest public void instrumentation() {
+    RxBindingPlugins.setInstrumentation(instrumentation);
+    RecordingObserver<Object> o = new RecordingObserver<>();
+    RxView.clicks(view).subscribe(o);
+    assertEquals(1, instrumentation.subscribes);
+
+    view.performClick();
+    o.takeNext();
+    view.performClick();
+    o.takeNext();
+    assertEquals(2, instrumentation.nexts);
+    assertEquals(1, instrumentation.bindings.size());
+    assertEquals("ViewClickObservable", instrumentation.bindings.get(0).getSimpleName());
+
+    o.dispose();
+    o.dispose();
+    assertEquals(1, instrumentation.disposes);
+  }
+
+  @Test @UiThreadTest public void instrumentationInitialValue() {
+    RxBindingPlugins.setInstrumentation(instrumentation);
+    RecordingObserver<Object> o = new RecordingObserver<>();
+    RxView.focusChanges(view).subscribe(o);
+    o.takeNext();
+    assertEquals(1, instrumentation.subscribes);
+    assertEquals(1, instrumentation.nexts);
+
+    o.dispose();
+    assertEquals(1, instrumentation.disposes);
+  }
+
+  @Test @UiThreadTest public void instrumentationGestures() {
+    RxBindingPlugins.setInstrumentation(instrumentation);
+    RecordingObserver<Object> taps = new RecordingObserver<>();
+    RecordingObserver<Object> flings = new RecordingObserver<>();
+    RxView.taps(view).subscribe(taps);
+    RxView.flings(view).subscribe(flings);
+    assertEquals(2, instrumentation.bindings.size());
+    assertEquals("ViewTapObservable", instrumentation.bindings.get(0).getSimpleName());
+    assertEquals("ViewFlingObservable", instrumentation.bindings.get(1).getSimpleName());
+
+    taps.dispose();
+    flings.dispose();
+  }
+
+  @Test @UiThreadTest public void instrumentationSkipsOperators() {
+    RxBindingPlugins.setInstrumentation(instrumentation);
+    RecordingObserver<Object> o = new RecordingObserver<>();
+    RxOperators.mainThreadThrottleFirst(RxView.clicks(view), 1, MINUTES).subscribe(o);
+    view.performClick();
+    o.takeNext();
+    // Only the binding is counted, not the operator applied to it.
+    assertEquals(1, instrumentation.subscribes);
+    assertEquals(1, instrumentation.nexts);
+    assertEquals(1, instrumentation.bindings.size());
+    assertEquals("ViewClickObservable", instrumentation.bindings.get(0).getSimpleName());
+
+    o.dispose();
+  }
+
+  @Test @UiThreadTest public void noInstrumentation() {
+    RecordingObserver<Object> o = new RecordingObserver<>();
+    RxView.clicks(view).subscribe(o);
+    // Installing after subscribe does not instrument the existing subscription.
+    RxBindingPlugins.setInstrumentation(instrumentation);
+
+    view.performClick();
+    o.takeNext();
+    o.dispose();
+    assertEquals(0, instrumentation.subscribes);
+    assertEquals(0, instrumentation.nexts);
+    assertEquals(0, instrumentation.disposes);
+  }
+
+  private static final class RecordingInstrumentation implements BindingInstrumentation {
+    final List<Class<?>> bindings = new ArrayList<>();
+    int subscribes;
+    int nexts;
+    int disposes;
+
+    @Override public void onSubscribe(@NonNull Class<?> binding) {
+      bindings.add(binding);
+      subscribes++;
+    }
+
+    @Override public void onNext(@NonNull Class<?> binding, long durationNanos) {
+      nexts++;
+    }
+
+    @Override public void onDispose(@NonNull Class<?> binding) {
+      disposes++;
+    }
+  }
+}
@@ -0,0 +1,244 @@
+package com.jakewharton.rxbinding4;
+
+import android.app.Instrumentation;
+import androidx.test.filters.SdkSuppress;
+import androidx.test.platform.app.InstrumentationRegistry;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.subjects.PublishSubject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class RxOperatorsTest {
+  private final Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+
+  @SdkSuppress(minSdkVersion = 16)
+  @Test public void perFrameEmitsLatest() {
+    PublishSubject<Integer> subject = PublishSubject.create();
+    RecordingObserver<Integer> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxOperators.perFrame(subject).subscribe(o);
+      subject.onNext(1);
+      subject.onNext(2);
+      subject.onNext(3);
+    });
+    assertEquals(3, o.takeNext().intValue());
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> subject.onNext(4));
+    assertEquals(4, o.takeNext().intValue());
+
+    instrumentation.runOnMainSync(() -> {
+      subject.onNext(5);
+      o.dispose();
+    });
+    o.assertNoMoreEvents();
+  }
+
+  @SdkSuppress(minSdkVersion = 16)
+  @Test public void perFrameEmitsHeldValueOnComplete() {
+    PublishSubject<Integer> subject = PublishSubject.create();
+    RecordingObserver<Integer> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxOperators.perFrame(subject).subscribe(o);
+      subject.onNext(1);
+      subject.onComplete();
+    });
+    assertEquals(1, o.takeNext().intValue());
+    o.assertOnCompleted();
+  }
+
+  @Test public void mainThreadDebounce() {
+    PublishSubject<Integer> subject = PublishSubject.create();
+    RecordingObserver<Integer> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxOperators.mainThreadDebounce(subject, 100, MILLISECONDS).subscribe(o);
+      subject.onNext(1);
+      subject.onNext(2);
+    });
+    assertEquals(2, o.takeNext().intValue());
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> {
+      subject.onNext(3);
+      subject.onComplete();
+    });
+    assertEquals(3, o.takeNext().intValue());
+    o.assertOnCompleted();
+  }
+
+  @Test public void mainThreadThrottleFirst() {
+    PublishSubject<Integer> subject = PublishSubject.create();
+    RecordingObserver<Integer> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxOperators.mainThreadThrottleFirst(subject, 1, MINUTES).subscribe(o);
+      subject.onNext(1);
+      subject.onNext(2);
+    });
+    assertEquals(1, o.takeNext().intValue());
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(o::dispose);
+  }
+
+  @Test public void mainThreadSample() {
+    PublishSubject<Integer> subject = PublishSubject.create();
+    RecordingObserver<Integer> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxOperators.mainThreadSample(subject, 100, MILLISECONDS).subscribe(o);
+      subject.onNext(1);
+      subject.onNext(2);
+    });
+    assertEquals(2, o.takeNext().intValue());
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> {
+      subject.onNext(3);
+      o.dispose();
+    });
+    o.assertNoMoreEvents();
+  }
+
+  @Test public void mainThreadSampleRoundsSubMillisecondPeriodUp() {
+    PublishSubject<Integer> subject = PublishSubject.create();
+    RecordingObserver<Integer> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxOperators.mainThreadSample(subject, 500, MICROSECONDS).subscribe(o);
+      subject.onNext(1);
+    });
+    assertEquals(1, o.takeNext().intValue());
+
+    instrumentation.runOnMainSync(o::dispose);
+  }
+
+  @Test public void mainThreadOperatorsRejectNonPositiveDurations() {
+    PublishSubject<Integer> subject = PublishSubject.create();
+    try {
+      RxOperators.mainThreadDebounce(subject, 0, MILLISECONDS);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("timeout must be positive: 0", e.getMessage());
+    }
+    try {
+      RxOperators.mainThreadThrottleFirst(subject, 0, MILLISECONDS);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("windowDuration must be positive: 0", e.getMessage());
+    }
+    try {
+      RxOperators.mainThreadSample(subject, -1, MILLISECONDS);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("period must be positive: -1", e.getMessage());
+    }
+  }
+
+  @Test public void queryResultsCachesAndRefinesPrefixes() {
+    List<String> items = Arrays.asList("apple", "apricot", "banana");
+    List<String> lookups = new ArrayList<>();
+    PublishSubject<String> queries = PublishSubject.create();
+    RecordingObserver<QueryResults<String>> o = new RecordingObserver<>();
+    RxOperators.queryResults(queries, 16, (query, item) -> item.startsWith(query), query -> {
+      lookups.add(query);
+      List<String> results = new ArrayList<>();
+      for (String item : items) {
+        if (item.startsWith(query)) {
+          results.add(item);
+        }
+      }
+      return Single.just(results);
+    }).subscribe(o);
+
+    queries.onNext("a");
+    assertEquals(new QueryResults<>("a", Arrays.asList("apple", "apricot")), o.takeNext());
+    queries.onNext("ap");
+    assertEquals(new QueryResults<>("ap", Arrays.asList("apple", "apricot")), o.takeNext());
+    queries.onNext("apr");
+    assertEquals(new QueryResults<>("apr", Collections.singletonList("apricot")), o.takeNext());
+    queries.onNext("apr");
+    o.assertNoMoreEvents();
+    queries.onNext("b");
+    assertEquals(new QueryResults<>("b", Collections.singletonList("banana")), o.takeNext());
+    queries.onNext("a");
+    assertEquals(new QueryResults<>("a", Arrays.asList("apple", "apricot")), o.takeNext());
+
+    assertEquals(Arrays.asList("a", "b"), lookups);
+    o.dispose();
+  }
+
+  @Test public void queryResultsCacheIsPerSubscription() {
+    List<String> lookups = new ArrayList<>();
+    PublishSubject<String> queries = PublishSubject.create();
+    Observable<QueryResults<String>> results = RxOperators.queryResults(queries, 16, null,
+        query -> {
+          lookups.add(query);
+          return Single.just(Collections.singletonList(query + lookups.size()));
+        });
+
+    RecordingObserver<QueryResults<String>> o1 = new RecordingObserver<>();
+    results.subscribe(o1);
+    queries.onNext("a");
+    assertEquals(new QueryResults<>("a", Collections.singletonList("a1")), o1.takeNext());
+    o1.dispose();
+
+    // A new subscription does not see results cached by the previous one.
+    RecordingObserver<QueryResults<String>> o2 = new RecordingObserver<>();
+    results.subscribe(o2);
+    queries.onNext("a");
+    assertEquals(new QueryResults<>("a", Collections.singletonList("a2")), o2.takeNext());
+    o2.dispose();
+
+    assertEquals(Arrays.asList("a", "a"), lookups);
+  }
+
+  @Test public void queryResultsDoesNotRefineEmptyQuery() {
+    List<String> lookups = new ArrayList<>();
+    PublishSubject<String> queries = PublishSubject.create();
+    RecordingObserver<QueryResults<String>> o = new RecordingObserver<>();
+    RxOperators.queryResults(queries, 16, (query, item) -> item.startsWith(query), query -> {
+      lookups.add(query);
+      // Like most search backends, nothing is returned for an empty query.
+      return Single.just(query.isEmpty()
+          ? Collections.<String>emptyList()
+          : Collections.singletonList(query + "ple"));
+    }).subscribe(o);
+
+    queries.onNext("");
+    assertEquals(new QueryResults<>("", Collections.<String>emptyList()), o.takeNext());
+    queries.onNext("ap");
+    assertEquals(new QueryResults<>("ap", Collections.singletonList("apple")), o.takeNext());
+
+    assertEquals(Arrays.asList("", "ap"), lookups);
+    o.dispose();
+  }
+
+  @Test public void queryResultsDisposesStaleLookups() {
+    PublishSubject<String> queries = PublishSubject.create();
+    PublishSubject<List<String>> slow = PublishSubject.create();
+    RecordingObserver<QueryResults<String>> o = new RecordingObserver<>();
+    RxOperators.<String, String>queryResults(queries, query -> {
+      if (query.equals("slow")) {
+        return slow.singleOrError();
+      }
+      return Single.just(Collections.singletonList(query));
+    }).subscribe(o);
+
+    queries.onNext("slow");
+    assertTrue(slow.hasObservers());
+    queries.onNext("fast");
+    assertFalse(slow.hasObservers());
+    assertEquals(new QueryResults<>("fast", Collections.singletonList("fast")), o.takeNext());
+    o.dispose();
+  }
+}
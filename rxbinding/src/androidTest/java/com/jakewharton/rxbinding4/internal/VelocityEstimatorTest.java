@@ -0,0 +1,46 @@
+package com.jakewharton.rxbinding4.internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public final class VelocityEstimatorTest {
+  private final VelocityEstimator estimator = new VelocityEstimator();
+
+  @Test public void constantVelocity() {
+    estimator.add(0, 10f);
+    estimator.add(16, 16f);
+    estimator.add(32, 16f);
+    assertEquals(1000f, estimator.add(48, 16f), 0f);
+  }
+
+  @Test public void firstIntervalIsMeasured() {
+    estimator.add(0, 1f);
+    assertEquals(1000f, estimator.add(16, 16f), 0f);
+  }
+
+  @Test public void firstDeltaAssumesFullHorizon() {
+    assertEquals(100f, estimator.add(0, 10f), 0f);
+  }
+
+  @Test public void secondDeltaInSameMillisecondKeepsEstimate() {
+    assertEquals(100f, estimator.add(0, 10f), 0f);
+    assertEquals(100f, estimator.add(0, 10f), 0f);
+    // Both of the later deltas are measured over the 16ms which passed.
+    assertEquals(1625f, estimator.add(16, 16f), 0f);
+  }
+
+  @Test public void oldDeltasExpire() {
+    estimator.add(0, 1000f);
+    estimator.add(16, 1000f);
+    // Only the latest delta is within the horizon.
+    assertEquals(-100f, estimator.add(200, -10f), 0f);
+  }
+
+  @Test public void reset() {
+    estimator.add(0, 16f);
+    estimator.add(16, 16f);
+    estimator.reset();
+    assertEquals(100f, estimator.add(32, 10f), 0f);
+  }
+}
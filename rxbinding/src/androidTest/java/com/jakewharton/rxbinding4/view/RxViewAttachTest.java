@@ -90,4 +90,78 @@ public final class RxViewAttachTest {
     });
     o.assertNoMoreEvents();
   }
+
+  @Test public void untilDetached() {
+    RecordingObserver<Object> o1 = new RecordingObserver<>();
+    RecordingObserver<Object> o2 = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      parent.addView(child);
+      RxView.untilDetached(RxView.clicks(child), child).subscribe(o1);
+      RxView.untilDetached(RxView.longClicks(child), child).subscribe(o2);
+    });
+
+    instrumentation.runOnMainSync(child::performClick);
+    assertNotNull(o1.takeNext());
+
+    instrumentation.runOnMainSync(() -> parent.removeView(child));
+    o1.assertOnCompleted();
+    o2.assertOnCompleted();
+
+    instrumentation.runOnMainSync(() -> {
+      child.performClick();
+      child.performLongClick();
+    });
+    o1.assertNoMoreEvents();
+    o2.assertNoMoreEvents();
+  }
+
+  @Test public void untilDetachedDisposedOffMainThread() {
+    RecordingObserver<Object> o1 = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      parent.addView(child);
+      RxView.untilDetached(RxView.clicks(child), child).subscribe(o1);
+    });
+    // Disposed from the test thread rather than the main thread.
+    o1.dispose();
+    instrumentation.waitForIdleSync();
+
+    RecordingObserver<Object> o2 = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxView.untilDetached(RxView.clicks(child), child).subscribe(o2);
+      parent.removeView(child);
+    });
+    o2.assertOnCompleted();
+    o1.assertNoMoreEvents();
+  }
+
+  @Test public void untilDetachedSubscribedBeforePostedRemoval() {
+    RecordingObserver<Object> o1 = new RecordingObserver<>();
+    RecordingObserver<Object> o2 = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      parent.addView(child);
+      RxView.untilDetached(RxView.clicks(child), child).subscribe(o1);
+      // Dispose off the main thread while it is busy so the removal stays posted behind us.
+      Thread disposer = new Thread(o1::dispose);
+      disposer.start();
+      try {
+        disposer.join();
+      } catch (InterruptedException e) {
+        throw new AssertionError(e);
+      }
+      RxView.untilDetached(RxView.clicks(child), child).subscribe(o2);
+    });
+    instrumentation.waitForIdleSync();
+
+    RecordingObserver<Object> o3 = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxView.untilDetached(RxView.longClicks(child), child).subscribe(o3);
+      child.performClick();
+    });
+    assertNotNull(o2.takeNext());
+
+    instrumentation.runOnMainSync(() -> parent.removeView(child));
+    o2.assertOnCompleted();
+    o3.assertOnCompleted();
+    o1.assertNoMoreEvents();
+  }
 }
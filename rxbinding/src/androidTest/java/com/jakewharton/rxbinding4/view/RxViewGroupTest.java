@@ -1,6 +1,8 @@
 package com.jakewharton.rxbinding4.view;
 
 import android.content.Context;
+import android.os.SystemClock;
+import android.view.MotionEvent;
 import android.view.View;
 import android.widget.LinearLayout;
 import androidx.test.annotation.UiThreadTest;
@@ -8,7 +10,12 @@ import androidx.test.core.app.ApplicationProvider;
 import com.jakewharton.rxbinding4.RecordingObserver;
 import org.junit.Test;
 
+import static android.view.View.MeasureSpec.EXACTLY;
+import static android.view.View.MeasureSpec.makeMeasureSpec;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public final class RxViewGroupTest {
   private final Context context = ApplicationProvider.getApplicationContext();
@@ -31,4 +38,84 @@ public final class RxViewGroupTest {
     parent.addView(child);
     o.assertNoMoreEvents();
   }
+
+  @Test @UiThreadTest public void childClicks() {
+    View other = new View(context);
+    parent.addView(child, new LinearLayout.LayoutParams(100, 100));
+
+    RecordingObserver<View> o = new RecordingObserver<>();
+    RxViewGroup.childClicks(parent).subscribe(o);
+    o.assertNoMoreEvents();
+
+    tap(50, 50);
+    assertSame(child, o.takeNext());
+
+    // Children added while subscribed are observed.
+    parent.addView(other, new LinearLayout.LayoutParams(100, 100));
+    layout();
+    tap(50, 150);
+    assertSame(other, o.takeNext());
+
+    // Taps outside of every child are not reported.
+    tap(50, 250);
+    o.assertNoMoreEvents();
+
+    o.dispose();
+    tap(50, 50);
+    o.assertNoMoreEvents();
+  }
+
+  @Test @UiThreadTest public void childClicksPressesChildWithoutChangingIt() {
+    parent.addView(child, new LinearLayout.LayoutParams(100, 100));
+
+    RecordingObserver<View> o = new RecordingObserver<>();
+    RxViewGroup.childClicks(parent).subscribe(o);
+    assertFalse(child.isClickable());
+    assertFalse(child.hasOnClickListeners());
+
+    layout();
+    parent.dispatchTouchEvent(motionEvent(MotionEvent.ACTION_DOWN, 50, 50));
+    assertTrue(child.isPressed());
+
+    // Sliding off the child cancels the tap.
+    parent.dispatchTouchEvent(motionEvent(MotionEvent.ACTION_MOVE, 50, 250));
+    assertFalse(child.isPressed());
+    parent.dispatchTouchEvent(motionEvent(MotionEvent.ACTION_UP, 50, 250));
+    o.assertNoMoreEvents();
+
+    o.dispose();
+  }
+
+  @Test @UiThreadTest public void childClicksLeavesClickableChildrenAlone() {
+    View.OnClickListener listener = v -> {};
+    child.setOnClickListener(listener);
+    parent.addView(child, new LinearLayout.LayoutParams(100, 100));
+
+    RecordingObserver<View> o = new RecordingObserver<>();
+    RxViewGroup.childClicks(parent).subscribe(o);
+
+    // The child consumes its own touches.
+    tap(50, 50);
+    o.assertNoMoreEvents();
+    assertTrue(child.isClickable());
+
+    o.dispose();
+  }
+
+  private void tap(float x, float y) {
+    layout();
+    parent.dispatchTouchEvent(motionEvent(MotionEvent.ACTION_DOWN, x, y));
+    parent.dispatchTouchEvent(motionEvent(MotionEvent.ACTION_UP, x, y));
+  }
+
+  private void layout() {
+    parent.setOrientation(LinearLayout.VERTICAL);
+    parent.measure(makeMeasureSpec(100, EXACTLY), makeMeasureSpec(300, EXACTLY));
+    parent.layout(0, 0, 100, 300);
+  }
+
+  private static MotionEvent motionEvent(int action, float x, float y) {
+    long now = SystemClock.uptimeMillis();
+    return MotionEvent.obtain(now, now, action, x, y, 0);
+  }
 }
@@ -1,6 +1,8 @@
 package com.jakewharton.rxbinding4.view;
 
+import android.app.Instrumentation;
 import android.content.Context;
+import android.os.SystemClock;
 import android.view.KeyEvent;
 import android.view.MotionEvent;
 import android.view.View;
@@ -8,6 +10,7 @@ import android.widget.LinearLayout;
 import androidx.test.annotation.UiThreadTest;
 import androidx.test.core.app.ApplicationProvider;
 import androidx.test.filters.SdkSuppress;
+import androidx.test.platform.app.InstrumentationRegistry;
 import com.jakewharton.rxbinding4.RecordingObserver;
 import com.jakewharton.rxbinding4.internal.AlwaysTrue;
 import io.reactivex.rxjava3.functions.Consumer;
@@ -50,6 +53,48 @@ public final class RxViewTest {
     o.assertNoMoreEvents();
   }
 
+  @Test @UiThreadTest public void weakClicks() {
+    RecordingObserver<Object> o1 = new RecordingObserver<>();
+    RecordingObserver<Object> o2 = new RecordingObserver<>();
+    RxView.weakClicks(view).subscribe(o1);
+    RxView.clicks(view).subscribe(o2);
+    o1.assertNoMoreEvents(); // No initial value.
+
+    view.performClick();
+    assertNotNull(o1.takeNext());
+    assertNotNull(o2.takeNext());
+
+    o1.dispose();
+
+    view.performClick();
+    o1.assertNoMoreEvents();
+    assertNotNull(o2.takeNext());
+
+    o2.dispose();
+  }
+
+  @Test @UiThreadTest public void clicksMultipleObservers() {
+    RecordingObserver<Object> o1 = new RecordingObserver<>();
+    RecordingObserver<Object> o2 = new RecordingObserver<>();
+    RxView.clicks(view).subscribe(o1);
+    RxView.clicks(view).subscribe(o2);
+
+    view.performClick();
+    assertNotNull(o1.takeNext());
+    assertNotNull(o2.takeNext());
+
+    o1.dispose();
+
+    view.performClick();
+    o1.assertNoMoreEvents();
+    assertNotNull(o2.takeNext());
+
+    o2.dispose();
+
+    view.performClick();
+    o2.assertNoMoreEvents();
+  }
+
   @Test @UiThreadTest public void drags() {
     //RecordingObserver<ViewClickEvent> o = new RecordingObserver<>();
     //RxView.clickEvents(view).subscribe(o);
@@ -177,6 +222,44 @@ public final class RxViewTest {
     o.assertNoMoreEvents();
   }
 
+  @Test @UiThreadTest public void mutableLayoutChangeEvents() {
+    view.layout(0, 0, 10, 10);
+
+    RecordingObserver<MutableViewLayoutChangeEvent> o = new RecordingObserver<>();
+    RxView.mutableLayoutChangeEvents(view).subscribe(o);
+    o.assertNoMoreEvents();
+
+    view.layout(5, 5, 10, 10);
+    MutableViewLayoutChangeEvent event1 = o.takeNext();
+    assertSame(view, event1.getView());
+    assertEquals(5, event1.getLeft());
+    assertEquals(5, event1.getTop());
+    assertEquals(10, event1.getRight());
+    assertEquals(10, event1.getBottom());
+    assertEquals(0, event1.getOldLeft());
+    assertEquals(0, event1.getOldTop());
+    assertEquals(10, event1.getOldRight());
+    assertEquals(10, event1.getOldBottom());
+    ViewLayoutChangeEvent copy = event1.toImmutable();
+
+    view.layout(0, 0, 20, 20);
+    MutableViewLayoutChangeEvent event2 = o.takeNext();
+    assertSame(event1, event2);
+    assertEquals(0, event2.getLeft());
+    assertEquals(0, event2.getTop());
+    assertEquals(20, event2.getRight());
+    assertEquals(20, event2.getBottom());
+    assertEquals(5, event2.getOldLeft());
+    assertEquals(5, event2.getOldTop());
+    assertEquals(10, event2.getOldRight());
+    assertEquals(10, event2.getOldBottom());
+    assertEquals(new ViewLayoutChangeEvent(view, 5, 5, 10, 10, 0, 0, 10, 10), copy);
+
+    o.dispose();
+    view.layout(5, 5, 10, 10);
+    o.assertNoMoreEvents();
+  }
+
   @Test @UiThreadTest public void longClicks() {
     // We need a parent because long presses delegate to the parent.
     LinearLayout parent = new LinearLayout(context) {
@@ -243,6 +326,35 @@ public final class RxViewTest {
     o.assertNoMoreEvents();
   }
 
+  @SdkSuppress(minSdkVersion = 23)
+  @Test @UiThreadTest public void mutableScrollChangeEvents() {
+    RecordingObserver<MutableViewScrollChangeEvent> o = new RecordingObserver<>();
+    RxView.mutableScrollChangeEvents(view).subscribe(o);
+    o.assertNoMoreEvents();
+
+    view.scrollTo(1, 1);
+    MutableViewScrollChangeEvent event0 = o.takeNext();
+    assertSame(view, event0.getView());
+    assertEquals(1, event0.getScrollX());
+    assertEquals(1, event0.getScrollY());
+    assertEquals(0, event0.getOldScrollX());
+    assertEquals(0, event0.getOldScrollY());
+    ViewScrollChangeEvent copy = event0.toImmutable();
+
+    view.scrollTo(2, 2);
+    MutableViewScrollChangeEvent event1 = o.takeNext();
+    assertSame(event0, event1);
+    assertEquals(2, event1.getScrollX());
+    assertEquals(2, event1.getScrollY());
+    assertEquals(1, event1.getOldScrollX());
+    assertEquals(1, event1.getOldScrollY());
+    assertEquals(new ViewScrollChangeEvent(view, 1, 1, 0, 0), copy);
+
+    o.dispose();
+    view.scrollTo(3, 3);
+    o.assertNoMoreEvents();
+  }
+
   @Test @UiThreadTest public void touches() {
     RecordingObserver<MotionEvent> o = new RecordingObserver<>();
     RxView.touches(view).subscribe(o);
@@ -262,6 +374,151 @@ public final class RxViewTest {
     o.assertNoMoreEvents();
   }
 
+  @Test @UiThreadTest public void touchesMultipleObservers() {
+    RecordingObserver<MotionEvent> o1 = new RecordingObserver<>();
+    RecordingObserver<MotionEvent> o2 = new RecordingObserver<>();
+    RxView.touches(view, event -> false).subscribe(o1);
+    RxView.touches(view).subscribe(o2);
+
+    assertTrue(view.dispatchTouchEvent(motionEventAtPosition(view, ACTION_DOWN, 0, 50)));
+    o1.assertNoMoreEvents();
+    assertEquals(ACTION_DOWN, o2.takeNext().getAction());
+
+    o2.dispose();
+
+    assertFalse(view.dispatchTouchEvent(motionEventAtPosition(view, ACTION_MOVE, 1, 50)));
+    o1.assertNoMoreEvents();
+    o2.assertNoMoreEvents();
+
+    o1.dispose();
+  }
+
+  @Test @UiThreadTest public void touchSamples() {
+    RecordingObserver<TouchSamples> o = new RecordingObserver<>();
+    RxView.touchSamples(view).subscribe(o);
+    o.assertNoMoreEvents();
+
+    MotionEvent move = MotionEvent.obtain(0, 10, ACTION_MOVE, 1, 2, 0);
+    move.addBatch(20, 3, 4, 1f, 1f, 0);
+    move.addBatch(30, 5, 6, 0.5f, 1f, 0);
+    view.dispatchTouchEvent(move);
+    TouchSamples samples = o.takeNext();
+    assertEquals(ACTION_MOVE, samples.getAction());
+    assertEquals(1, samples.getPointerCount());
+    assertEquals(3, samples.getSampleCount());
+    assertEquals(10, samples.getEventTimes()[0]);
+    assertEquals(30, samples.getEventTimes()[2]);
+    assertEquals(3f, samples.getX()[samples.index(1, 0)], 0f);
+    assertEquals(6f, samples.getY()[samples.index(2, 0)], 0f);
+    assertEquals(0.5f, samples.getPressure()[samples.index(2, 0)], 0f);
+
+    TouchSamples copy = samples.copy();
+    view.dispatchTouchEvent(motionEventAtPosition(view, ACTION_UP, 1, 50));
+    assertSame(samples, o.takeNext());
+    assertEquals(1, samples.getSampleCount());
+    assertEquals(3, copy.getSampleCount());
+    assertEquals(5f, copy.getX()[copy.index(2, 0)], 0f);
+
+    o.dispose();
+
+    view.dispatchTouchEvent(motionEventAtPosition(view, ACTION_DOWN, 1, 50));
+    o.assertNoMoreEvents();
+  }
+
+  @SdkSuppress(minSdkVersion = 16)
+  @Test public void resampledTouches() {
+    Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+    RecordingObserver<ResampledTouches> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxView.resampledTouches(view).subscribe(o);
+      long now = SystemClock.uptimeMillis();
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now, ACTION_DOWN, 10, 10, 0));
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now + 1, ACTION_MOVE, 20, 20, 0));
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now + 2, ACTION_MOVE, 30, 30, 0));
+    });
+    // Three events are resampled into one value in the next frame.
+    ResampledTouches touches = o.takeNext();
+    assertEquals(1, touches.getPointerCount());
+    assertEquals(0, touches.getPointerIds()[0]);
+    assertTrue(touches.getX()[0] >= 20 && touches.getX()[0] <= 30);
+    assertFalse(touches.isFinal());
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> {
+      long now = SystemClock.uptimeMillis();
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now, ACTION_UP, 40, 40, 0));
+    });
+    touches = o.takeNext();
+    assertTrue(touches.isFinal());
+    assertEquals(40f, touches.getX()[0], 0f);
+
+    instrumentation.runOnMainSync(o::dispose);
+  }
+
+  @SdkSuppress(minSdkVersion = 16)
+  @Test public void resampledTouchesUnhandled() {
+    Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+    RecordingObserver<ResampledTouches> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxView.resampledTouches(view, 0, event -> false).subscribe(o);
+      long now = SystemClock.uptimeMillis();
+      // Left to the view, which does not handle touches.
+      assertFalse(view.dispatchTouchEvent(MotionEvent.obtain(now, now, ACTION_DOWN, 10, 10, 0)));
+    });
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(o::dispose);
+  }
+
+  @Test public void tapsAndDoubleTaps() {
+    Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+    RecordingObserver<ViewGesturePoint> taps = new RecordingObserver<>();
+    RecordingObserver<ViewGesturePoint> doubleTaps = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      RxView.taps(view).subscribe(taps);
+      RxView.doubleTaps(view).subscribe(doubleTaps);
+      long now = SystemClock.uptimeMillis();
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now, ACTION_DOWN, 10, 20, 0));
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now + 10, ACTION_UP, 10, 20, 0));
+    });
+    // Confirmed once the double tap timeout elapses.
+    assertEquals(new ViewGesturePoint(10, 20), taps.takeNext());
+    doubleTaps.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> {
+      long now = SystemClock.uptimeMillis();
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now, ACTION_DOWN, 10, 20, 0));
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now + 10, ACTION_UP, 10, 20, 0));
+      view.dispatchTouchEvent(MotionEvent.obtain(now + 50, now + 50, ACTION_DOWN, 10, 20, 0));
+      view.dispatchTouchEvent(MotionEvent.obtain(now + 50, now + 60, ACTION_UP, 10, 20, 0));
+    });
+    assertEquals(new ViewGesturePoint(10, 20), doubleTaps.takeNext());
+    taps.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> {
+      taps.dispose();
+      doubleTaps.dispose();
+    });
+  }
+
+  @Test public void tapsLeaveTouchesToClickableView() {
+    Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
+    RecordingObserver<ViewGesturePoint> taps = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      view.setClickable(true);
+      RxView.taps(view).subscribe(taps);
+      long now = SystemClock.uptimeMillis();
+      // The view's own touch handling still runs, so it becomes pressed.
+      assertTrue(view.dispatchTouchEvent(MotionEvent.obtain(now, now, ACTION_DOWN, 10, 20, 0)));
+      assertTrue(view.isPressed());
+      view.dispatchTouchEvent(MotionEvent.obtain(now, now + 10, ACTION_UP, 10, 20, 0));
+    });
+    // Confirmed once the double tap timeout elapses.
+    assertEquals(new ViewGesturePoint(10, 20), taps.takeNext());
+
+    instrumentation.runOnMainSync(taps::dispose);
+  }
+
   @Test @UiThreadTest public void keys() {
     RecordingObserver<KeyEvent> o = new RecordingObserver<>();
     RxView.keys(view).subscribe(o);
@@ -1,16 +1,23 @@
 package com.jakewharton.rxbinding4.widget;
 
 import android.app.Instrumentation;
+import android.os.SystemClock;
 import android.widget.ListView;
+import androidx.test.filters.SdkSuppress;
 import androidx.test.platform.app.InstrumentationRegistry;
 import androidx.test.rule.ActivityTestRule;
 import com.jakewharton.rxbinding4.RecordingObserver;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public final class RxAbsListViewTest {
   @Rule public final ActivityTestRule<RxAbsListViewTestActivity> activityRule =
@@ -46,4 +53,73 @@ public final class RxAbsListViewTest {
     instrumentation.runOnMainSync(() -> listView.smoothScrollToPosition(100));
     o.assertNoMoreEvents();
   }
+
+  @Test public void mutableScrollEvents() {
+    RecordingObserver<MutableAbsListViewScrollEvent> o = new RecordingObserver<>();
+    RxAbsListView.mutableScrollEvents(listView)
+        .subscribeOn(AndroidSchedulers.mainThread())
+        .subscribe(o);
+    MutableAbsListViewScrollEvent event0 = o.takeNext();
+    assertSame(listView, event0.getView());
+    assertEquals(100, event0.getTotalItemCount());
+    assertEquals(0, event0.getFirstVisibleItem());
+    assertEquals(0, event0.getScrollState());
+    AbsListViewScrollEvent copy = event0.toImmutable();
+
+    instrumentation.runOnMainSync(() -> listView.setSelection(50));
+    MutableAbsListViewScrollEvent event1 = o.takeNext();
+    assertSame(event0, event1);
+    // Read on the main thread since the instance is reused for later events.
+    int[] fields = new int[2];
+    instrumentation.runOnMainSync(() -> {
+      fields[0] = event1.getFirstVisibleItem();
+      fields[1] = event1.getTotalItemCount();
+    });
+    assertEquals(50, fields[0]);
+    assertEquals(100, fields[1]);
+    assertEquals(0, copy.getFirstVisibleItem());
+    assertEquals(100, copy.getTotalItemCount());
+    o.clearEvents();
+
+    o.dispose();
+
+    instrumentation.runOnMainSync(() -> listView.setSelection(0));
+    o.assertNoMoreEvents();
+  }
+
+  @SdkSuppress(minSdkVersion = 19)
+  @Test public void scrollVelocities() {
+    List<Float> velocities = new ArrayList<>();
+    Disposable[] disposable = new Disposable[1];
+    instrumentation.runOnMainSync(() -> {
+      disposable[0] = RxAbsListView.scrollVelocities(listView).subscribe(velocities::add);
+    });
+    assertTrue(velocities.isEmpty()); // No initial value.
+
+    // The scroll listener is shared with scrollEvents().
+    RecordingObserver<AbsListViewScrollEvent> events = new RecordingObserver<>();
+    RxAbsListView.scrollEvents(listView)
+        .subscribeOn(AndroidSchedulers.mainThread())
+        .subscribe(events);
+    events.takeNext();
+    assertTrue(velocities.isEmpty());
+
+    instrumentation.runOnMainSync(() -> listView.scrollListBy(50));
+    assertEquals(1, velocities.size());
+    assertTrue(velocities.get(0) > 0f);
+    assertEquals(listView, events.takeNext().getView());
+
+    SystemClock.sleep(20);
+    instrumentation.runOnMainSync(() -> listView.scrollListBy(-50));
+    assertEquals(2, velocities.size());
+    assertTrue(velocities.get(1) < 0f);
+    events.takeNext();
+
+    instrumentation.runOnMainSync(() -> disposable[0].dispose());
+    instrumentation.runOnMainSync(() -> listView.scrollListBy(50));
+    assertEquals(2, velocities.size());
+    events.takeNext();
+
+    events.dispose();
+  }
 }
@@ -1,12 +1,14 @@
 package com.jakewharton.rxbinding4.widget;
 
 import android.app.Instrumentation;
+import android.widget.AdapterView;
 import android.widget.ListView;
 import android.widget.Spinner;
 import androidx.test.platform.app.InstrumentationRegistry;
 import androidx.test.rule.ActivityTestRule;
 import com.jakewharton.rxbinding4.RecordingObserver;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.disposables.Disposable;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -50,6 +52,54 @@ public final class RxAdapterViewTest {
     o.assertNoMoreEvents();
   }
 
+  @Test public void primitiveItemSelections() {
+    RecordingObserver<Integer> o = new RecordingObserver<>();
+    RxAdapterView.primitiveItemSelections(spinner).asObservable()
+        .subscribeOn(AndroidSchedulers.mainThread())
+        .subscribe(o);
+    o.assertNoMoreEvents(); // No initial value.
+
+    instrumentation.runOnMainSync(() -> spinner.setSelection(2));
+    assertEquals(2, o.takeNext().intValue());
+
+    instrumentation.runOnMainSync(() -> spinner.setSelection(0));
+    assertEquals(0, o.takeNext().intValue());
+
+    o.dispose();
+
+    instrumentation.runOnMainSync(() -> spinner.setSelection(1));
+    o.assertNoMoreEvents();
+  }
+
+  @Test public void primitiveItemSelectionsObserver() {
+    int[] last = { -2 };
+    Disposable[] disposable = new Disposable[1];
+    instrumentation.runOnMainSync(() -> {
+      disposable[0] = RxAdapterView.primitiveItemSelections(spinner)
+          .subscribe(value -> last[0] = value);
+    });
+
+    instrumentation.runOnMainSync(() -> spinner.setSelection(2));
+    instrumentation.waitForIdleSync();
+    assertEquals(2, last[0]);
+
+    instrumentation.runOnMainSync(() -> {
+      activity.values.clear();
+      activity.adapter.notifyDataSetChanged();
+    });
+    instrumentation.waitForIdleSync();
+    assertEquals(AdapterView.INVALID_POSITION, last[0]);
+
+    instrumentation.runOnMainSync(() -> disposable[0].dispose());
+
+    instrumentation.runOnMainSync(() -> {
+      activity.values.add("Hello");
+      activity.adapter.notifyDataSetChanged();
+    });
+    instrumentation.waitForIdleSync();
+    assertEquals(AdapterView.INVALID_POSITION, last[0]);
+  }
+
   @Test public void selectionEvents() {
     RecordingObserver<AdapterViewSelectionEvent> o = new RecordingObserver<>();
     RxAdapterView.selectionEvents(spinner)
@@ -6,6 +6,7 @@ import androidx.test.platform.app.InstrumentationRegistry;
 import androidx.test.rule.ActivityTestRule;
 import com.jakewharton.rxbinding4.RecordingObserver;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.disposables.Disposable;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -66,4 +67,39 @@ public final class RxRatingBarTest {
     instrumentation.runOnMainSync(() -> view.setRating(1f));
     o.assertNoMoreEvents();
   }
+
+  @Test public void primitiveRatingChanges() {
+    RecordingObserver<Float> o = new RecordingObserver<>();
+    RxRatingBar.primitiveRatingChanges(view).asObservable()
+        .subscribeOn(AndroidSchedulers.mainThread())
+        .subscribe(o);
+    o.assertNoMoreEvents(); // No initial value.
+
+    instrumentation.runOnMainSync(() -> view.setRating(1.5f));
+    assertEquals(1.5f, o.takeNext(), 0f);
+
+    instrumentation.runOnMainSync(() -> view.setRating(2f));
+    assertEquals(2f, o.takeNext(), 0f);
+
+    o.dispose();
+
+    instrumentation.runOnMainSync(() -> view.setRating(1f));
+    o.assertNoMoreEvents();
+  }
+
+  @Test public void primitiveRatingChangesObserver() {
+    float[] last = { -1f };
+    Disposable[] disposable = new Disposable[1];
+    instrumentation.runOnMainSync(() -> {
+      disposable[0] = RxRatingBar.primitiveRatingChanges(view).subscribe(value -> last[0] = value);
+    });
+
+    instrumentation.runOnMainSync(() -> view.setRating(2.5f));
+    assertEquals(2.5f, last[0], 0f);
+
+    instrumentation.runOnMainSync(() -> disposable[0].dispose());
+
+    instrumentation.runOnMainSync(() -> view.setRating(1f));
+    assertEquals(2.5f, last[0], 0f);
+  }
 }
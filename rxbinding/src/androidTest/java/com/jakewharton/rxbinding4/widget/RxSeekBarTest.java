@@ -6,6 +6,7 @@ import androidx.test.platform.app.InstrumentationRegistry;
 import androidx.test.rule.ActivityTestRule;
 import com.jakewharton.rxbinding4.RecordingObserver;
 import io.reactivex.rxjava3.android.schedulers.AndroidSchedulers;
+import io.reactivex.rxjava3.disposables.Disposable;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -151,4 +152,72 @@ public final class RxSeekBarTest {
     instrumentation.waitForIdleSync();
     o.assertNoMoreEvents();
   }
+
+  @Test public void changesAndChangeEventsShareListener() {
+    RecordingObserver<Integer> o1 = new RecordingObserver<>();
+    RxSeekBar.changes(seekBar) //
+        .subscribeOn(AndroidSchedulers.mainThread()) //
+        .subscribe(o1);
+    assertEquals(0, o1.takeNext().intValue());
+
+    RecordingObserver<SeekBarChangeEvent> o2 = new RecordingObserver<>();
+    RxSeekBar.changeEvents(seekBar) //
+        .subscribeOn(AndroidSchedulers.mainThread()) //
+        .subscribe(o2);
+    assertEquals(new SeekBarProgressChangeEvent(seekBar, 0, false), o2.takeNext());
+
+    instrumentation.runOnMainSync(() -> seekBar.setProgress(85));
+    instrumentation.waitForIdleSync();
+    assertEquals(85, o1.takeNext().intValue());
+    assertEquals(new SeekBarProgressChangeEvent(seekBar, 85, false), o2.takeNext());
+
+    o1.dispose();
+
+    instrumentation.runOnMainSync(() -> seekBar.setProgress(0));
+    instrumentation.waitForIdleSync();
+    o1.assertNoMoreEvents();
+    assertEquals(new SeekBarProgressChangeEvent(seekBar, 0, false), o2.takeNext());
+
+    o2.dispose();
+
+    instrumentation.runOnMainSync(() -> seekBar.setProgress(85));
+    instrumentation.waitForIdleSync();
+    o2.assertNoMoreEvents();
+  }
+
+  @Test public void primitiveChanges() {
+    RecordingObserver<Integer> o = new RecordingObserver<>();
+    RxSeekBar.primitiveChanges(seekBar).asObservable() //
+        .subscribeOn(AndroidSchedulers.mainThread()) //
+        .subscribe(o);
+    o.assertNoMoreEvents(); // No initial value.
+
+    instrumentation.runOnMainSync(() -> seekBar.setProgress(85));
+    instrumentation.waitForIdleSync();
+    assertEquals(85, o.takeNext().intValue());
+
+    o.dispose();
+
+    instrumentation.runOnMainSync(() -> seekBar.setProgress(0));
+    instrumentation.waitForIdleSync();
+    o.assertNoMoreEvents();
+  }
+
+  @Test public void primitiveChangesObserver() {
+    int[] last = { -1 };
+    Disposable[] disposable = new Disposable[1];
+    instrumentation.runOnMainSync(() -> {
+      disposable[0] = RxSeekBar.primitiveChanges(seekBar).subscribe(value -> last[0] = value);
+    });
+
+    instrumentation.runOnMainSync(() -> seekBar.setProgress(85));
+    instrumentation.waitForIdleSync();
+    assertEquals(85, last[0]);
+
+    instrumentation.runOnMainSync(() -> disposable[0].dispose());
+
+    instrumentation.runOnMainSync(() -> seekBar.setProgress(0));
+    instrumentation.waitForIdleSync();
+    assertEquals(85, last[0]);
+  }
 }
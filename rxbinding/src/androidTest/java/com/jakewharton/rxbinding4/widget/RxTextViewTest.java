@@ -1,21 +1,26 @@
 package com.jakewharton.rxbinding4.widget;
 
+import android.app.Instrumentation;
 import android.content.Context;
+import android.widget.EditText;
 import android.widget.TextView;
 import androidx.test.annotation.UiThreadTest;
 import androidx.test.core.app.ApplicationProvider;
+import androidx.test.platform.app.InstrumentationRegistry;
 import com.jakewharton.rxbinding4.RecordingObserver;
 import org.junit.Test;
 
 import static android.view.inputmethod.EditorInfo.IME_ACTION_GO;
 import static android.view.inputmethod.EditorInfo.IME_ACTION_NEXT;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 public final class RxTextViewTest {
   private final Context context = ApplicationProvider.getApplicationContext();
   private final TextView view = new TextView(context);
+  private final Instrumentation instrumentation = InstrumentationRegistry.getInstrumentation();
 
   @Test @UiThreadTest public void editorActions() {
     RecordingObserver<Integer> o = new RecordingObserver<>();
@@ -78,6 +83,108 @@ public final class RxTextViewTest {
     o.assertNoMoreEvents();
   }
 
+  @Test public void coalescedTextChanges() {
+    RecordingObserver<CharSequence> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      view.setText("Initial");
+      RxTextView.coalescedTextChanges(view).subscribe(o);
+    });
+    assertEquals("Initial", o.takeNext().toString());
+
+    instrumentation.runOnMainSync(() -> {
+      view.setText("H");
+      view.append("e");
+      view.append("llo");
+    });
+    assertEquals("Hello", o.takeNext().toString());
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> {
+      view.setText("Silent");
+      o.dispose();
+    });
+    o.assertNoMoreEvents();
+  }
+
+  @Test public void textSnapshots() {
+    EditText view = new EditText(context);
+    RecordingObserver<CharSequence> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      view.setText("Initial");
+      RxTextView.textSnapshots(view).subscribe(o);
+    });
+    assertEquals("Initial", o.takeNext().toString());
+
+    instrumentation.runOnMainSync(() -> view.getText().replace(0, 7, "H"));
+    CharSequence h = o.takeNext();
+    instrumentation.runOnMainSync(() -> view.getText().append("ello"));
+    CharSequence hello = o.takeNext();
+    // The earlier snapshot was not affected by the later change to the same buffer.
+    assertEquals("H", h.toString());
+    assertEquals("Hello", hello.toString());
+
+    instrumentation.runOnMainSync(o::dispose);
+    instrumentation.runOnMainSync(() -> view.getText().append("!"));
+    o.assertNoMoreEvents();
+    assertEquals("Hello", hello.toString());
+  }
+
+  @Test public void textSnapshotsInitialValueIsASnapshot() {
+    EditText view = new EditText(context);
+    RecordingObserver<CharSequence> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      view.setText("Initial");
+      RxTextView.textSnapshots(view).subscribe(o);
+    });
+    CharSequence initial = o.takeNext();
+    assertEquals("Initial", initial.toString());
+
+    instrumentation.runOnMainSync(() -> view.getText().replace(0, 7, "H"));
+    assertEquals("H", o.takeNext().toString());
+    assertEquals("Initial", initial.toString());
+
+    instrumentation.runOnMainSync(o::dispose);
+  }
+
+  @Test @UiThreadTest public void textSnapshotsAreEqualByContent() {
+    view.setText("Initial");
+
+    RecordingObserver<CharSequence> o = new RecordingObserver<>();
+    RxTextView.textSnapshots(view).distinctUntilChanged().subscribe(o);
+    CharSequence initial = o.takeNext();
+    assertEquals("Initial", initial.toString());
+
+    view.setText("Initial");
+    o.assertNoMoreEvents();
+
+    view.setText("Hello");
+    CharSequence hello = o.takeNext();
+    assertEquals("Hello", hello.toString());
+    assertNotEquals(initial, hello);
+    assertEquals("Hello".hashCode(), hello.hashCode());
+
+    o.dispose();
+  }
+
+  @Test @UiThreadTest public void textEdits() {
+    view.setText("Initial");
+
+    RecordingObserver<TextViewTextEdit> o = new RecordingObserver<>();
+    RxTextView.textEdits(view).subscribe(o);
+    assertEquals(new TextViewTextEdit(0, 0, "Initial"), o.takeNext());
+
+    view.setText("H");
+    assertEquals(new TextViewTextEdit(0, 7, "H"), o.takeNext());
+
+    view.append("ello");
+    assertEquals(new TextViewTextEdit(1, 0, "ello"), o.takeNext());
+
+    o.dispose();
+
+    view.setText("Silent");
+    o.assertNoMoreEvents();
+  }
+
   @Test @UiThreadTest public void textChangeEvents() {
     view.setText("Initial");
 
@@ -170,4 +277,32 @@ public final class RxTextViewTest {
     view.setText("Silent");
     o.assertNoMoreEvents();
   }
+
+  @Test public void coalescedAfterTextChangeEvents() {
+    EditText view = new EditText(context);
+    RecordingObserver<TextViewAfterTextChangeEvent> o = new RecordingObserver<>();
+    instrumentation.runOnMainSync(() -> {
+      view.setText("Initial");
+      RxTextView.coalescedAfterTextChangeEvents(view).subscribe(o);
+    });
+    TextViewAfterTextChangeEvent event0 = o.takeNext();
+    assertSame(view, event0.getView());
+    assertEquals("Initial", event0.getEditable().toString());
+
+    instrumentation.runOnMainSync(() -> {
+      view.getText().replace(0, 7, "H");
+      view.getText().append("e");
+      view.getText().append("llo");
+    });
+    TextViewAfterTextChangeEvent event1 = o.takeNext();
+    assertSame(view, event1.getView());
+    assertEquals("Hello", event1.getEditable().toString());
+    o.assertNoMoreEvents();
+
+    instrumentation.runOnMainSync(() -> {
+      view.getText().append("!");
+      o.dispose();
+    });
+    o.assertNoMoreEvents();
+  }
 }
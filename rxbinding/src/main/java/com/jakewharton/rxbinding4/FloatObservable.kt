@@ -0,0 +1,67 @@
+package com.jakewharton.rxbinding4
+
+import com.jakewharton.rxbinding4.internal.InstrumentedDisposable
+import com.jakewharton.rxbinding4.internal.InstrumentedFloatObserver
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.disposables.Disposable
+import io.reactivex.rxjava3.disposables.SerialDisposable
+
+/** Receives primitive `float` values from a [FloatObservable] without boxing. */
+interface FloatObserver {
+  fun onNext(value: Float)
+}
+
+/**
+ * A source of primitive `float` values which are delivered to a [FloatObserver] without boxing.
+ * Use [asObservable] to bridge to an RxJava [Observable] when boxing is not a concern.
+ */
+abstract class FloatObservable {
+  /**
+   * Subscribe `observer` to receive values until the returned [Disposable] is disposed.
+   *
+   * @throws IllegalStateException if not called on the main thread.
+   */
+  fun subscribe(observer: FloatObserver): Disposable {
+    checkMainThread()
+    val instrumentation = RxBindingPlugins.instrumentation ?: return subscribeActual(observer)
+    val binding = javaClass
+    instrumentation.onSubscribe(binding)
+    val disposable =
+        subscribeActual(InstrumentedFloatObserver(binding, instrumentation, observer))
+    return InstrumentedDisposable(binding, instrumentation, disposable)
+  }
+
+  protected abstract fun subscribeActual(observer: FloatObserver): Disposable
+
+  /** Create an [Observable] which boxes and emits each value of this source. */
+  fun asObservable(): Observable<Float> = Boxed()
+
+  private inner class Boxed : Observable<Float>() {
+    override fun subscribeActual(downstream: Observer<in Float>) {
+      val observer = instrument(this@FloatObservable, downstream)
+      if (!checkMainThread(observer)) {
+        return
+      }
+      // Sources may deliver a value from subscribeActual, so onSubscribe must come first.
+      val disposable = SerialDisposable()
+      observer.onSubscribe(disposable)
+      disposable.replace(this@FloatObservable.subscribeActual(object : FloatObserver {
+        override fun onNext(value: Float) {
+          if (!disposable.isDisposed) {
+            observer.onNext(value)
+          }
+        }
+      }))
+    }
+  }
+}
+
+/** Subscribe `onNext` to receive values until the returned [Disposable] is disposed. */
+inline fun FloatObservable.subscribe(crossinline onNext: (value: Float) -> Unit): Disposable {
+  return subscribe(object : FloatObserver {
+    override fun onNext(value: Float) = onNext.invoke(value)
+  })
+}
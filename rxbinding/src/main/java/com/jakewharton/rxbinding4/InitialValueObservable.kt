@@ -1,12 +1,14 @@
 package com.jakewharton.rxbinding4
 
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 
 abstract class InitialValueObservable<T> : Observable<T>() {
   protected abstract val initialValue: T
 
-  override fun subscribeActual(observer: Observer<in T>) {
+  override fun subscribeActual(downstream: Observer<in T>) {
+    val observer = instrument(this, downstream)
     subscribeListener(observer)
     observer.onNext(initialValue)
   }
@@ -16,8 +18,8 @@ abstract class InitialValueObservable<T> : Observable<T>() {
   fun skipInitialValue(): Observable<T> = Skipped()
 
   private inner class Skipped : Observable<T>() {
-    override fun subscribeActual(observer: Observer<in T>) {
-      subscribeListener(observer)
+    override fun subscribeActual(downstream: Observer<in T>) {
+      subscribeListener(instrument(this@InitialValueObservable, downstream))
     }
   }
 }
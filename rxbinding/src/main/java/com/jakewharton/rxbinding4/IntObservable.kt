@@ -0,0 +1,67 @@
+package com.jakewharton.rxbinding4
+
+import com.jakewharton.rxbinding4.internal.InstrumentedDisposable
+import com.jakewharton.rxbinding4.internal.InstrumentedIntObserver
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.disposables.Disposable
+import io.reactivex.rxjava3.disposables.SerialDisposable
+
+/** Receives primitive `int` values from an [IntObservable] without boxing. */
+interface IntObserver {
+  fun onNext(value: Int)
+}
+
+/**
+ * A source of primitive `int` values which are delivered to an [IntObserver] without boxing.
+ * Use [asObservable] to bridge to an RxJava [Observable] when boxing is not a concern.
+ */
+abstract class IntObservable {
+  /**
+   * Subscribe `observer` to receive values until the returned [Disposable] is disposed.
+   *
+   * @throws IllegalStateException if not called on the main thread.
+   */
+  fun subscribe(observer: IntObserver): Disposable {
+    checkMainThread()
+    val instrumentation = RxBindingPlugins.instrumentation ?: return subscribeActual(observer)
+    val binding = javaClass
+    instrumentation.onSubscribe(binding)
+    val disposable =
+        subscribeActual(InstrumentedIntObserver(binding, instrumentation, observer))
+    return InstrumentedDisposable(binding, instrumentation, disposable)
+  }
+
+  protected abstract fun subscribeActual(observer: IntObserver): Disposable
+
+  /** Create an [Observable] which boxes and emits each value of this source. */
+  fun asObservable(): Observable<Int> = Boxed()
+
+  private inner class Boxed : Observable<Int>() {
+    override fun subscribeActual(downstream: Observer<in Int>) {
+      val observer = instrument(this@IntObservable, downstream)
+      if (!checkMainThread(observer)) {
+        return
+      }
+      // Sources may deliver a value from subscribeActual, so onSubscribe must come first.
+      val disposable = SerialDisposable()
+      observer.onSubscribe(disposable)
+      disposable.replace(this@IntObservable.subscribeActual(object : IntObserver {
+        override fun onNext(value: Int) {
+          if (!disposable.isDisposed) {
+            observer.onNext(value)
+          }
+        }
+      }))
+    }
+  }
+}
+
+/** Subscribe `onNext` to receive values until the returned [Disposable] is disposed. */
+inline fun IntObservable.subscribe(crossinline onNext: (value: Int) -> Unit): Disposable {
+  return subscribe(object : IntObserver {
+    override fun onNext(value: Int) = onNext.invoke(value)
+  })
+}
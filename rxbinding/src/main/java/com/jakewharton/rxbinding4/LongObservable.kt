@@ -0,0 +1,67 @@
+package com.jakewharton.rxbinding4
+
+import com.jakewharton.rxbinding4.internal.InstrumentedDisposable
+import com.jakewharton.rxbinding4.internal.InstrumentedLongObserver
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.disposables.Disposable
+import io.reactivex.rxjava3.disposables.SerialDisposable
+
+/** Receives primitive `long` values from a [LongObservable] without boxing. */
+interface LongObserver {
+  fun onNext(value: Long)
+}
+
+/**
+ * A source of primitive `long` values which are delivered to a [LongObserver] without boxing.
+ * Use [asObservable] to bridge to an RxJava [Observable] when boxing is not a concern.
+ */
+abstract class LongObservable {
+  /**
+   * Subscribe `observer` to receive values until the returned [Disposable] is disposed.
+   *
+   * @throws IllegalStateException if not called on the main thread.
+   */
+  fun subscribe(observer: LongObserver): Disposable {
+    checkMainThread()
+    val instrumentation = RxBindingPlugins.instrumentation ?: return subscribeActual(observer)
+    val binding = javaClass
+    instrumentation.onSubscribe(binding)
+    val disposable =
+        subscribeActual(InstrumentedLongObserver(binding, instrumentation, observer))
+    return InstrumentedDisposable(binding, instrumentation, disposable)
+  }
+
+  protected abstract fun subscribeActual(observer: LongObserver): Disposable
+
+  /** Create an [Observable] which boxes and emits each value of this source. */
+  fun asObservable(): Observable<Long> = Boxed()
+
+  private inner class Boxed : Observable<Long>() {
+    override fun subscribeActual(downstream: Observer<in Long>) {
+      val observer = instrument(this@LongObservable, downstream)
+      if (!checkMainThread(observer)) {
+        return
+      }
+      // Sources may deliver a value from subscribeActual, so onSubscribe must come first.
+      val disposable = SerialDisposable()
+      observer.onSubscribe(disposable)
+      disposable.replace(this@LongObservable.subscribeActual(object : LongObserver {
+        override fun onNext(value: Long) {
+          if (!disposable.isDisposed) {
+            observer.onNext(value)
+          }
+        }
+      }))
+    }
+  }
+}
+
+/** Subscribe `onNext` to receive values until the returned [Disposable] is disposed. */
+inline fun LongObservable.subscribe(crossinline onNext: (value: Long) -> Unit): Disposable {
+  return subscribe(object : LongObserver {
+    override fun onNext(value: Long) = onNext.invoke(value)
+  })
+}
@@ -0,0 +1,108 @@
+@file:JvmName("RxOperators")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4
+
+import android.os.SystemClock
+import androidx.annotation.CheckResult
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.mainHandler
+import com.jakewharton.rxbinding4.internal.positiveMillis
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.disposables.Disposable
+import java.util.concurrent.TimeUnit
+
+/**
+ * Create an observable which emits a value from this observable only after `timeout` has passed
+ * without another value being emitted.
+ *
+ * Unlike [Observable.debounce], timing is done with a main thread [android.os.Handler] and
+ * [SystemClock.uptimeMillis] so values are emitted on the main thread without any scheduler hop.
+ * A `timeout` shorter than a millisecond is rounded up to one millisecond.
+ *
+ * *Warning:* This observable must be subscribed to on the main thread and its upstream must
+ * emit on the main thread. All of the bindings in this library satisfy this requirement.
+ *
+ * *Note:* A pending value is emitted immediately when this observable completes.
+ */
+@CheckResult
+fun <T : Any> Observable<T>.mainThreadDebounce(timeout: Long, unit: TimeUnit): Observable<T> {
+  return MainThreadDebounceObservable(this, positiveMillis("timeout", timeout, unit))
+}
+
+private class MainThreadDebounceObservable<T : Any>(
+  private val upstream: Observable<T>,
+  private val timeoutMillis: Long
+) : Observable<T>() {
+
+  override fun subscribeActual(downstream: Observer<in T>) {
+    if (!checkMainThread(downstream)) {
+      return
+    }
+    upstream.subscribe(DebounceObserver(downstream, timeoutMillis))
+  }
+
+  private class DebounceObserver<T : Any>(
+    private val downstream: Observer<in T>,
+    private val timeoutMillis: Long
+  ) : MainThreadDisposable(), Observer<T>, Runnable {
+    private lateinit var upstream: Disposable
+    private var latest: T? = null
+    private var deadline = 0L
+
+    override fun onSubscribe(d: Disposable) {
+      upstream = d
+      downstream.onSubscribe(this)
+    }
+
+    override fun onNext(t: T) {
+      // Rather than re-posting for every value, move the deadline and let the pending callback
+      // re-post itself if it fires early.
+      deadline = SystemClock.uptimeMillis() + timeoutMillis
+      if (latest == null) {
+        mainHandler.postAtTime(this, deadline)
+      }
+      latest = t
+    }
+
+    override fun run() {
+      if (SystemClock.uptimeMillis() < deadline) {
+        mainHandler.postAtTime(this, deadline)
+        return
+      }
+      val value = latest ?: return
+      latest = null
+      if (!isDisposed) {
+        downstream.onNext(value)
+      }
+    }
+
+    override fun onError(e: Throwable) {
+      cancel()
+      downstream.onError(e)
+    }
+
+    override fun onComplete() {
+      val value = latest
+      cancel()
+      if (value != null) {
+        downstream.onNext(value)
+      }
+      downstream.onComplete()
+    }
+
+    override fun onDispose() {
+      upstream.dispose()
+      cancel()
+    }
+
+    private fun cancel() {
+      if (latest != null) {
+        latest = null
+        mainHandler.removeCallbacks(this)
+      }
+    }
+  }
+}
@@ -0,0 +1,98 @@
+@file:JvmName("RxOperators")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4
+
+import android.os.SystemClock
+import androidx.annotation.CheckResult
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.mainHandler
+import com.jakewharton.rxbinding4.internal.positiveMillis
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.disposables.Disposable
+import java.util.concurrent.TimeUnit
+
+/**
+ * Create an observable which emits the latest value from this observable, if any, at the end of
+ * each `period`.
+ *
+ * Unlike [Observable.sample], timing is done with a main thread [android.os.Handler] and
+ * [SystemClock.uptimeMillis] so values are emitted on the main thread without any scheduler hop.
+ * No callbacks are scheduled while this observable has not emitted a value since the last
+ * sample. A `period` shorter than a millisecond is rounded up to one millisecond.
+ *
+ * *Warning:* This observable must be subscribed to on the main thread and its upstream must
+ * emit on the main thread. All of the bindings in this library satisfy this requirement.
+ */
+@CheckResult
+fun <T : Any> Observable<T>.mainThreadSample(period: Long, unit: TimeUnit): Observable<T> {
+  return MainThreadSampleObservable(this, positiveMillis("period", period, unit))
+}
+
+private class MainThreadSampleObservable<T : Any>(
+  private val upstream: Observable<T>,
+  private val periodMillis: Long
+) : Observable<T>() {
+
+  override fun subscribeActual(downstream: Observer<in T>) {
+    if (!checkMainThread(downstream)) {
+      return
+    }
+    upstream.subscribe(SampleObserver(downstream, periodMillis))
+  }
+
+  private class SampleObserver<T : Any>(
+    private val downstream: Observer<in T>,
+    private val periodMillis: Long
+  ) : MainThreadDisposable(), Observer<T>, Runnable {
+    private val start = SystemClock.uptimeMillis()
+    private lateinit var upstream: Disposable
+    private var latest: T? = null
+
+    override fun onSubscribe(d: Disposable) {
+      upstream = d
+      downstream.onSubscribe(this)
+    }
+
+    override fun onNext(t: T) {
+      if (latest == null) {
+        // Align to the next period boundary since subscription.
+        val elapsed = SystemClock.uptimeMillis() - start
+        mainHandler.postAtTime(this, start + (elapsed / periodMillis + 1) * periodMillis)
+      }
+      latest = t
+    }
+
+    override fun run() {
+      val value = latest ?: return
+      latest = null
+      if (!isDisposed) {
+        downstream.onNext(value)
+      }
+    }
+
+    override fun onError(e: Throwable) {
+      cancel()
+      downstream.onError(e)
+    }
+
+    override fun onComplete() {
+      cancel()
+      downstream.onComplete()
+    }
+
+    override fun onDispose() {
+      upstream.dispose()
+      cancel()
+    }
+
+    private fun cancel() {
+      if (latest != null) {
+        latest = null
+        mainHandler.removeCallbacks(this)
+      }
+    }
+  }
+}
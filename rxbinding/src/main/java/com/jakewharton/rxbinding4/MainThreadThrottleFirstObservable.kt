@@ -0,0 +1,80 @@
+@file:JvmName("RxOperators")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4
+
+import android.os.SystemClock
+import androidx.annotation.CheckResult
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.positiveMillis
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.disposables.Disposable
+import java.util.concurrent.TimeUnit
+
+/**
+ * Create an observable which emits the first value from this observable and then ignores
+ * subsequent values until `windowDuration` has passed.
+ *
+ * Unlike [Observable.throttleFirst], timing is done with [SystemClock.uptimeMillis] so values
+ * are emitted synchronously on the main thread without any scheduler hop. A `windowDuration`
+ * shorter than a millisecond is rounded up to one millisecond.
+ *
+ * *Warning:* This observable must be subscribed to on the main thread and its upstream must
+ * emit on the main thread. All of the bindings in this library satisfy this requirement.
+ */
+@CheckResult
+fun <T : Any> Observable<T>.mainThreadThrottleFirst(
+  windowDuration: Long,
+  unit: TimeUnit
+): Observable<T> {
+  return MainThreadThrottleFirstObservable(
+      this, positiveMillis("windowDuration", windowDuration, unit))
+}
+
+private class MainThreadThrottleFirstObservable<T : Any>(
+  private val upstream: Observable<T>,
+  private val windowMillis: Long
+) : Observable<T>() {
+
+  override fun subscribeActual(downstream: Observer<in T>) {
+    if (!checkMainThread(downstream)) {
+      return
+    }
+    upstream.subscribe(ThrottleFirstObserver(downstream, windowMillis))
+  }
+
+  private class ThrottleFirstObserver<T : Any>(
+    private val downstream: Observer<in T>,
+    private val windowMillis: Long
+  ) : MainThreadDisposable(), Observer<T> {
+    private lateinit var upstream: Disposable
+    private var windowEnd = Long.MIN_VALUE
+
+    override fun onSubscribe(d: Disposable) {
+      upstream = d
+      downstream.onSubscribe(this)
+    }
+
+    override fun onNext(t: T) {
+      val now = SystemClock.uptimeMillis()
+      if (now >= windowEnd && !isDisposed) {
+        windowEnd = now + windowMillis
+        downstream.onNext(t)
+      }
+    }
+
+    override fun onError(e: Throwable) {
+      downstream.onError(e)
+    }
+
+    override fun onComplete() {
+      downstream.onComplete()
+    }
+
+    override fun onDispose() {
+      upstream.dispose()
+    }
+  }
+}
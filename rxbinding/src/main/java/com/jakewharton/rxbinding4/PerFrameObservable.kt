@@ -0,0 +1,100 @@
+@file:JvmName("RxOperators")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4
+
+import android.view.Choreographer
+import android.view.Choreographer.FrameCallback
+import androidx.annotation.CheckResult
+import androidx.annotation.RequiresApi
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.disposables.Disposable
+
+/**
+ * Create an observable which emits only the latest value from this observable once per frame.
+ *
+ * Values are held until the next [Choreographer] frame callback and then emitted on the main
+ * thread. Any values which arrive before that callback replace the held value. This avoids
+ * redundant work when a binding such as a scroll or offset listener fires multiple times
+ * within a single frame.
+ *
+ * *Warning:* This observable must be subscribed to on the main thread and its upstream must
+ * emit on the main thread. All of the bindings in this library satisfy this requirement.
+ *
+ * *Note:* A held value is emitted immediately when this observable completes.
+ */
+@RequiresApi(16)
+@CheckResult
+fun <T : Any> Observable<T>.perFrame(): Observable<T> {
+  return PerFrameObservable(this)
+}
+
+@RequiresApi(16)
+private class PerFrameObservable<T : Any>(
+  private val upstream: Observable<T>
+) : Observable<T>() {
+
+  override fun subscribeActual(downstream: Observer<in T>) {
+    if (!checkMainThread(downstream)) {
+      return
+    }
+    upstream.subscribe(PerFrameObserver(downstream, Choreographer.getInstance()))
+  }
+
+  private class PerFrameObserver<T : Any>(
+    private val downstream: Observer<in T>,
+    private val choreographer: Choreographer
+  ) : MainThreadDisposable(), Observer<T>, FrameCallback {
+    private lateinit var upstream: Disposable
+    private var latest: T? = null
+
+    override fun onSubscribe(d: Disposable) {
+      upstream = d
+      downstream.onSubscribe(this)
+    }
+
+    override fun onNext(t: T) {
+      if (latest == null) {
+        choreographer.postFrameCallback(this)
+      }
+      latest = t
+    }
+
+    override fun doFrame(frameTimeNanos: Long) {
+      val value = latest ?: return
+      latest = null
+      if (!isDisposed) {
+        downstream.onNext(value)
+      }
+    }
+
+    override fun onError(e: Throwable) {
+      cancelFrame()
+      downstream.onError(e)
+    }
+
+    override fun onComplete() {
+      val value = latest
+      cancelFrame()
+      if (value != null) {
+        downstream.onNext(value)
+      }
+      downstream.onComplete()
+    }
+
+    override fun onDispose() {
+      upstream.dispose()
+      cancelFrame()
+    }
+
+    private fun cancelFrame() {
+      if (latest != null) {
+        latest = null
+        choreographer.removeFrameCallback(this)
+      }
+    }
+  }
+}
@@ -0,0 +1,79 @@
+@file:JvmName("RxOperators")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4
+
+import android.util.LruCache
+import androidx.annotation.CheckResult
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Single
+
+/**
+ * Create an observable which looks up results for each distinct query emitted by this
+ * observable, such as those from `SearchView.queryTextChanges()`.
+ *
+ * When a new query is emitted any in-flight lookup for a previous query is disposed. Results are
+ * kept in an LRU cache of `cacheSize` queries so that returning to a previous query does not
+ * call `lookup` again. Each subscription has its own cache, so resubscribing (such as with
+ * `retry`) looks up every query again.
+ *
+ * If `matches` is supplied and a cached query is a prefix of the new query, the cached results
+ * are filtered with `matches` instead of calling `lookup`. Only supply `matches` when the results
+ * for a query are always a complete superset of the results for any longer query (i.e., lookups
+ * are not truncated to a maximum count). Results for the empty query are never refined.
+ * Refinement runs synchronously on the thread which emits the query, usually the main thread,
+ * so `matches` should be cheap and the number of cached results small.
+ *
+ * Combine with [mainThreadDebounce] to avoid looking up every keystroke of fast typists.
+ *
+ * *Note:* An error from `lookup` is propagated and terminates the created observable.
+ */
+@CheckResult
+@JvmOverloads
+fun <Q : CharSequence, T : Any> Observable<Q>.queryResults(
+  cacheSize: Int = 16,
+  matches: ((query: String, item: T) -> Boolean)? = null,
+  lookup: (query: String) -> Single<List<T>>
+): Observable<QueryResults<T>> {
+  val queries = this
+  return Observable.defer {
+    val cache = LruCache<String, List<T>>(cacheSize)
+    queries.map { it.toString() }
+        .distinctUntilChanged()
+        .switchMap { query ->
+          val cached = cache.get(query) ?: matches?.let { refine(cache, query, it) }
+          if (cached != null) {
+            Observable.just(QueryResults(query, cached))
+          } else {
+            lookup(query)
+                .doOnSuccess { cache.put(query, it) }
+                .map { QueryResults(query, it) }
+                .toObservable()
+          }
+        }
+  }
+}
+
+/** The results of a lookup for [query]. */
+data class QueryResults<T : Any>(
+  val query: String,
+  val results: List<T>
+)
+
+/**
+ * Filter the results of the longest cached non-empty prefix of `query`, if any. The empty query
+ * is never used because lookups commonly return nothing (or something unrelated) for it.
+ */
+private fun <T : Any> refine(
+  cache: LruCache<String, List<T>>,
+  query: String,
+  matches: (query: String, item: T) -> Boolean
+): List<T>? {
+  for (length in query.length - 1 downTo 1) {
+    val prefixResults = cache.get(query.substring(0, length)) ?: continue
+    val results = prefixResults.filter { matches(query, it) }
+    cache.put(query, results)
+    return results
+  }
+  return null
+}
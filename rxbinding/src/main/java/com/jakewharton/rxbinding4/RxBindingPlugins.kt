@@ -0,0 +1,43 @@
+package com.jakewharton.rxbinding4
+
+/**
+ * Global hooks for observing the behavior of every binding.
+ *
+ * When [instrumentation] is `null`, the default, bindings are not instrumented and pay no cost
+ * beyond a single field read per subscribe.
+ */
+object RxBindingPlugins {
+  /**
+   * The instrumentation notified of the subscriptions and emissions of every binding which is
+   * subscribed to after this is set. Set to `null` to stop instrumenting new subscriptions.
+   * Subscriptions made while an instrumentation was set continue to report to it until disposed.
+   */
+  @JvmStatic
+  @Volatile
+  var instrumentation: BindingInstrumentation? = null
+}
+
+/**
+ * Receives events from every binding subscribed to while installed in
+ * [RxBindingPlugins.instrumentation]. Each binding is identified by the class of the observable
+ * which implements it (e.g., `ViewClickObservable` for `View.clicks()`).
+ *
+ * Methods are called synchronously from the main thread, except for [onDispose] which is called
+ * from the thread that disposes the subscription. Implementations should be fast since their
+ * cost is added to that of the binding.
+ */
+interface BindingInstrumentation {
+  /** Called when an observer subscribes to a binding of type `binding`. */
+  fun onSubscribe(binding: Class<*>)
+
+  /**
+   * Called after a binding of type `binding` delivered a value to its observer which took
+   * `durationNanos` to handle it.
+   */
+  fun onNext(binding: Class<*>, durationNanos: Long)
+
+  /**
+   * Called once when a subscription to a binding of type `binding` is disposed or terminated.
+   */
+  fun onDispose(binding: Class<*>)
+}
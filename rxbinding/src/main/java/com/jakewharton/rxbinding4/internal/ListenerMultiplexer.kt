@@ -0,0 +1,91 @@
+package com.jakewharton.rxbinding4.internal
+
+import androidx.annotation.RestrictTo
+import androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP
+import java.util.WeakHashMap
+
+/**
+ * Shares a single platform listener of type `L` per view between any number of bindings.
+ *
+ * The first [add] for a view installs a dispatching listener created by [createDispatcher]. Each
+ * callback of that listener is forwarded to every added listener. The last [remove] for a view
+ * uninstalls the dispatching listener.
+ *
+ * All methods must be called from the main thread.
+ */
+@RestrictTo(LIBRARY_GROUP)
+abstract class ListenerMultiplexer<V : Any, L : Any> {
+  private val dispatchers = WeakHashMap<V, Dispatcher<L>>()
+
+  /** Set `listener` as the platform listener of `view`. A `null` value removes it. */
+  protected abstract fun setListener(view: V, listener: L?)
+
+  /** Create a platform listener which forwards each callback to every item in `listeners`. */
+  protected abstract fun createDispatcher(listeners: Listeners<L>): L
+
+  fun add(view: V, listener: L) {
+    var dispatcher = dispatchers[view]
+    if (dispatcher == null) {
+      val listeners = Listeners<L>()
+      dispatcher = Dispatcher(listeners, createDispatcher(listeners))
+      dispatchers[view] = dispatcher
+    }
+    dispatcher.listeners.add(listener)
+    // Always (re)install in case something outside of this class replaced our listener.
+    setListener(view, dispatcher.listener)
+  }
+
+  fun remove(view: V, listener: L) {
+    val dispatcher = dispatchers[view] ?: return
+    if (dispatcher.listeners.remove(listener) && dispatcher.listeners.size == 0) {
+      dispatchers.remove(view)
+      setListener(view, null)
+    }
+  }
+
+  private class Dispatcher<L : Any>(
+    val listeners: Listeners<L>,
+    val listener: L
+  )
+}
+
+/**
+ * A copy-on-write array of listeners. Iterate over the array returned from [snapshot] so that
+ * listeners added or removed during dispatch do not affect the current callback.
+ */
+@RestrictTo(LIBRARY_GROUP)
+class Listeners<L : Any> internal constructor() {
+  private var array: Array<Any?> = EMPTY
+
+  val size get() = array.size
+
+  fun snapshot(): Array<Any?> = array
+
+  internal fun add(listener: L) {
+    val old = array
+    val new = old.copyOf(old.size + 1)
+    new[old.size] = listener
+    array = new
+  }
+
+  internal fun remove(listener: L): Boolean {
+    val old = array
+    val index = old.indexOf(listener)
+    if (index == -1) {
+      return false
+    }
+    if (old.size == 1) {
+      array = EMPTY
+      return true
+    }
+    val new = arrayOfNulls<Any>(old.size - 1)
+    System.arraycopy(old, 0, new, 0, index)
+    System.arraycopy(old, index + 1, new, index, old.size - index - 1)
+    array = new
+    return true
+  }
+
+  private companion object {
+    val EMPTY = arrayOfNulls<Any>(0)
+  }
+}
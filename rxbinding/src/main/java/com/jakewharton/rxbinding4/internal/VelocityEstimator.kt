@@ -0,0 +1,81 @@
+package com.jakewharton.rxbinding4.internal
+
+import androidx.annotation.RestrictTo
+import androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP
+
+/**
+ * Estimates a scroll velocity in pixels per second from the most recent scroll deltas. Deltas
+ * are kept in a fixed-size ring buffer and averaged over the last [HORIZON_MILLIS] so that
+ * irregular event timing is smoothed without allocating.
+ */
+@RestrictTo(LIBRARY_GROUP)
+class VelocityEstimator {
+  private val deltas = FloatArray(SIZE)
+  private val durations = LongArray(SIZE)
+  private val times = LongArray(SIZE)
+  private var head = 0
+  private var count = 0
+  private var lastTime = Long.MIN_VALUE
+  private var lastVelocity = 0f
+
+  /**
+   * Add a scroll of `delta` pixels which happened at `timeMillis` and return the resulting
+   * velocity. The result is only zero when the deltas within the horizon cancel out, so that it
+   * is not mistaken for scrolling having stopped.
+   */
+  fun add(timeMillis: Long, delta: Float): Float {
+    // The duration of the first delta after a pause is unknown. It is excluded from the average
+    // so that it does not dilute the deltas which follow it.
+    val duration = if (lastTime == Long.MIN_VALUE) {
+      UNKNOWN
+    } else {
+      (timeMillis - lastTime).coerceIn(0, HORIZON_MILLIS)
+    }
+    lastTime = timeMillis
+    head = (head + 1) % SIZE
+    deltas[head] = delta
+    durations[head] = duration
+    times[head] = timeMillis
+    if (count < SIZE) {
+      count++
+    }
+
+    var distance = 0f
+    var elapsed = 0L
+    var index = head
+    for (i in 0 until count) {
+      if (timeMillis - times[index] >= HORIZON_MILLIS) {
+        break
+      }
+      if (durations[index] != UNKNOWN) {
+        distance += deltas[index]
+        elapsed += durations[index]
+      }
+      index = (index + SIZE - 1) % SIZE
+    }
+    if (elapsed == 0L) {
+      // With only the first delta there is no interval to measure. Assume it took the whole
+      // horizon until the next delta arrives. Deltas in the same millisecond as the previous one
+      // have no duration, so keep the previous estimate until time has passed.
+      if (duration == UNKNOWN) {
+        lastVelocity = delta * 1000f / HORIZON_MILLIS
+      }
+      return lastVelocity
+    }
+    lastVelocity = distance * 1000f / elapsed
+    return lastVelocity
+  }
+
+  /** Forget all deltas, such as when scrolling stops. */
+  fun reset() {
+    count = 0
+    lastTime = Long.MIN_VALUE
+    lastVelocity = 0f
+  }
+
+  companion object {
+    private const val SIZE = 8
+    private const val UNKNOWN = -1L
+    const val HORIZON_MILLIS = 100L
+  }
+}
@@ -0,0 +1,12 @@
+package com.jakewharton.rxbinding4.internal
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Convert the positive `duration` in `unit` to milliseconds for timing with
+ * [android.os.SystemClock.uptimeMillis]. Durations shorter than a millisecond round up to one.
+ */
+internal fun positiveMillis(name: String, duration: Long, unit: TimeUnit): Long {
+  require(duration > 0) { "$name must be positive: $duration" }
+  return maxOf(unit.toMillis(duration), 1L)
+}
@@ -0,0 +1,118 @@
+@file:JvmName("Instrumentation")
+
+package com.jakewharton.rxbinding4.internal
+
+import androidx.annotation.RestrictTo
+import androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP
+import com.jakewharton.rxbinding4.BindingInstrumentation
+import com.jakewharton.rxbinding4.FloatObserver
+import com.jakewharton.rxbinding4.IntObserver
+import com.jakewharton.rxbinding4.LongObserver
+import com.jakewharton.rxbinding4.RxBindingPlugins
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.disposables.Disposable
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Wrap `observer` to report the events of `binding` to the current
+ * [RxBindingPlugins.instrumentation]. Returns `observer` when none is installed.
+ */
+@RestrictTo(LIBRARY_GROUP)
+fun <T> instrument(binding: Any, observer: Observer<in T>): Observer<in T> {
+  val instrumentation = RxBindingPlugins.instrumentation ?: return observer
+  return InstrumentedObserver(binding.javaClass, instrumentation, observer)
+}
+
+private class InstrumentedObserver<T>(
+  private val binding: Class<*>,
+  private val instrumentation: BindingInstrumentation,
+  private val downstream: Observer<in T>
+) : AtomicBoolean(), Observer<T>, Disposable {
+  private lateinit var upstream: Disposable
+
+  override fun onSubscribe(d: Disposable) {
+    upstream = d
+    instrumentation.onSubscribe(binding)
+    downstream.onSubscribe(this)
+  }
+
+  override fun onNext(t: T) {
+    val start = System.nanoTime()
+    downstream.onNext(t)
+    instrumentation.onNext(binding, System.nanoTime() - start)
+  }
+
+  override fun onError(e: Throwable) {
+    end()
+    downstream.onError(e)
+  }
+
+  override fun onComplete() {
+    end()
+    downstream.onComplete()
+  }
+
+  override fun isDisposed() = upstream.isDisposed
+
+  override fun dispose() {
+    upstream.dispose()
+    end()
+  }
+
+  private fun end() {
+    if (compareAndSet(false, true)) {
+      instrumentation.onDispose(binding)
+    }
+  }
+}
+
+internal class InstrumentedDisposable(
+  private val binding: Class<*>,
+  private val instrumentation: BindingInstrumentation,
+  private val upstream: Disposable
+) : AtomicBoolean(), Disposable {
+  override fun isDisposed() = upstream.isDisposed
+
+  override fun dispose() {
+    upstream.dispose()
+    if (compareAndSet(false, true)) {
+      instrumentation.onDispose(binding)
+    }
+  }
+}
+
+internal class InstrumentedIntObserver(
+  private val binding: Class<*>,
+  private val instrumentation: BindingInstrumentation,
+  private val downstream: IntObserver
+) : IntObserver {
+  override fun onNext(value: Int) {
+    val start = System.nanoTime()
+    downstream.onNext(value)
+    instrumentation.onNext(binding, System.nanoTime() - start)
+  }
+}
+
+internal class InstrumentedFloatObserver(
+  private val binding: Class<*>,
+  private val instrumentation: BindingInstrumentation,
+  private val downstream: FloatObserver
+) : FloatObserver {
+  override fun onNext(value: Float) {
+    val start = System.nanoTime()
+    downstream.onNext(value)
+    instrumentation.onNext(binding, System.nanoTime() - start)
+  }
+}
+
+internal class InstrumentedLongObserver(
+  private val binding: Class<*>,
+  private val instrumentation: BindingInstrumentation,
+  private val downstream: LongObserver
+) : LongObserver {
+  override fun onNext(value: Long) {
+    val start = System.nanoTime()
+    downstream.onNext(value)
+    instrumentation.onNext(binding, System.nanoTime() - start)
+  }
+}
@@ -0,0 +1,12 @@
+@file:JvmName("MainHandler")
+
+package com.jakewharton.rxbinding4.internal
+
+import android.os.Handler
+import android.os.Looper
+import androidx.annotation.RestrictTo
+import androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP
+
+/** A [Handler] for the main thread shared by all operators and bindings. */
+@get:RestrictTo(LIBRARY_GROUP)
+val mainHandler by lazy(LazyThreadSafetyMode.NONE) { Handler(Looper.getMainLooper()) }
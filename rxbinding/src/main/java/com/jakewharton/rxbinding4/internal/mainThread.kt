@@ -31,3 +31,10 @@ fun checkMainThread(observer: Observer<*>): Boolean {
   }
   return true
 }
+
+@RestrictTo(LIBRARY_GROUP)
+fun checkMainThread() {
+  check(Looper.myLooper() == Looper.getMainLooper()) {
+    "Expected to be called on the main thread but was " + Thread.currentThread().name
+  }
+}
@@ -0,0 +1,18 @@
+package com.jakewharton.rxbinding4.view
+
+import android.view.View
+import android.view.View.OnClickListener
+import com.jakewharton.rxbinding4.internal.ListenerMultiplexer
+import com.jakewharton.rxbinding4.internal.Listeners
+
+internal object ClickMultiplexer : ListenerMultiplexer<View, OnClickListener>() {
+  override fun setListener(view: View, listener: OnClickListener?) {
+    view.setOnClickListener(listener)
+  }
+
+  override fun createDispatcher(listeners: Listeners<OnClickListener>) = OnClickListener { v ->
+    for (listener in listeners.snapshot()) {
+      (listener as OnClickListener).onClick(v)
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package com.jakewharton.rxbinding4.view
+
+import android.content.Context
+import android.view.GestureDetector
+import android.view.MotionEvent
+import android.view.MotionEvent.ACTION_CANCEL
+import android.view.MotionEvent.ACTION_DOWN
+import android.view.MotionEvent.ACTION_MOVE
+import android.view.MotionEvent.ACTION_POINTER_DOWN
+import android.view.MotionEvent.ACTION_POINTER_UP
+import android.view.MotionEvent.ACTION_UP
+import android.view.ScaleGestureDetector
+import android.view.View
+import android.view.View.OnTouchListener
+import com.jakewharton.rxbinding4.internal.Listeners
+import java.util.WeakHashMap
+
+/** Receives the gestures recognized from the touches of a view. */
+internal interface GestureListener {
+  fun onTap(x: Float, y: Float) {}
+  fun onDoubleTap(x: Float, y: Float) {}
+  fun onLongPress(x: Float, y: Float) {}
+  fun onFling(velocityX: Float, velocityY: Float) {}
+  fun onPinch(scaleFactor: Float, focusX: Float, focusY: Float) {}
+  fun onRotate(degrees: Float, focusX: Float, focusY: Float) {}
+}
+
+/**
+ * Shares a single set of gesture detectors per view, fed by a single listener registered with
+ * [TouchMultiplexer], between any number of gesture bindings.
+ *
+ * All methods must be called from the main thread.
+ */
+internal object GestureMultiplexer {
+  private val dispatchers = WeakHashMap<View, GestureDispatcher>()
+
+  fun add(view: View, listener: GestureListener) {
+    var dispatcher = dispatchers[view]
+    if (dispatcher == null) {
+      dispatcher = GestureDispatcher(view.context)
+      dispatchers[view] = dispatcher
+      TouchMultiplexer.add(view, dispatcher)
+    }
+    dispatcher.listeners.add(listener)
+  }
+
+  fun remove(view: View, listener: GestureListener) {
+    val dispatcher = dispatchers[view] ?: return
+    if (dispatcher.listeners.remove(listener) && dispatcher.listeners.size == 0) {
+      dispatchers.remove(view)
+      TouchMultiplexer.remove(view, dispatcher)
+    }
+  }
+}
+
+private class GestureDispatcher(context: Context) : OnTouchListener {
+  val listeners = Listeners<GestureListener>()
+
+  private val gestureDetector = GestureDetector(context,
+      object : GestureDetector.SimpleOnGestureListener() {
+        override fun onDown(e: MotionEvent) = true
+
+        override fun onSingleTapConfirmed(e: MotionEvent): Boolean {
+          for (listener in listeners.snapshot()) {
+            (listener as GestureListener).onTap(e.x, e.y)
+          }
+          return true
+        }
+
+        override fun onDoubleTap(e: MotionEvent): Boolean {
+          for (listener in listeners.snapshot()) {
+            (listener as GestureListener).onDoubleTap(e.x, e.y)
+          }
+          return true
+        }
+
+        override fun onLongPress(e: MotionEvent) {
+          for (listener in listeners.snapshot()) {
+            (listener as GestureListener).onLongPress(e.x, e.y)
+          }
+        }
+
+        override fun onFling(
+          e1: MotionEvent?,
+          e2: MotionEvent?,
+          velocityX: Float,
+          velocityY: Float
+        ): Boolean {
+          for (listener in listeners.snapshot()) {
+            (listener as GestureListener).onFling(velocityX, velocityY)
+          }
+          return true
+        }
+      })
+
+  private val scaleDetector = ScaleGestureDetector(context,
+      object : ScaleGestureDetector.SimpleOnScaleGestureListener() {
+        override fun onScale(detector: ScaleGestureDetector): Boolean {
+          val scaleFactor = detector.scaleFactor
+          val focusX = detector.focusX
+          val focusY = detector.focusY
+          for (listener in listeners.snapshot()) {
+            (listener as GestureListener).onPinch(scaleFactor, focusX, focusY)
+          }
+          return true
+        }
+      })
+
+  /** The angle in degrees between the first two pointers, or NaN when fewer are down. */
+  private var angle = Float.NaN
+
+  override fun onTouch(v: View, event: MotionEvent): Boolean {
+    gestureDetector.onTouchEvent(event)
+    scaleDetector.onTouchEvent(event)
+    onRotationTouchEvent(event)
+    // Leave touches to the view so its clicks, pressed state, and scrolling keep working. A view
+    // which is neither clickable nor long-clickable would ignore the down, and then the rest of
+    // the touch would never be delivered, so claim only that.
+    return event.actionMasked == ACTION_DOWN && !v.isClickable && !v.isLongClickable
+  }
+
+  private fun onRotationTouchEvent(event: MotionEvent) {
+    when (event.actionMasked) {
+      ACTION_DOWN, ACTION_UP, ACTION_CANCEL -> angle = Float.NaN
+      // The pointers forming the angle may have changed.
+      ACTION_POINTER_DOWN, ACTION_POINTER_UP -> angle = Float.NaN
+      ACTION_MOVE -> {
+        if (event.pointerCount < 2) {
+          return
+        }
+        val x0 = event.getX(0)
+        val y0 = event.getY(0)
+        val x1 = event.getX(1)
+        val y1 = event.getY(1)
+        val newAngle = Math.toDegrees(Math.atan2((y1 - y0).toDouble(), (x1 - x0).toDouble()))
+            .toFloat()
+        val oldAngle = angle
+        angle = newAngle
+        if (oldAngle.isNaN()) {
+          return
+        }
+        var degrees = newAngle - oldAngle
+        // Take the shortest direction across the discontinuity at +/-180.
+        if (degrees > 180f) {
+          degrees -= 360f
+        } else if (degrees < -180f) {
+          degrees += 360f
+        }
+        if (degrees != 0f) {
+          val focusX = (x0 + x1) / 2
+          val focusY = (y0 + y1) / 2
+          for (listener in listeners.snapshot()) {
+            (listener as GestureListener).onRotate(degrees, focusX, focusY)
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.jakewharton.rxbinding4.view
+
+import android.view.View
+import android.view.ViewGroup
+import android.view.ViewGroup.OnHierarchyChangeListener
+import com.jakewharton.rxbinding4.internal.ListenerMultiplexer
+import com.jakewharton.rxbinding4.internal.Listeners
+
+internal object HierarchyChangeMultiplexer :
+    ListenerMultiplexer<ViewGroup, OnHierarchyChangeListener>() {
+  override fun setListener(view: ViewGroup, listener: OnHierarchyChangeListener?) {
+    view.setOnHierarchyChangeListener(listener)
+  }
+
+  override fun createDispatcher(
+    listeners: Listeners<OnHierarchyChangeListener>
+  ): OnHierarchyChangeListener {
+    return object : OnHierarchyChangeListener {
+      override fun onChildViewAdded(parent: View, child: View) {
+        for (listener in listeners.snapshot()) {
+          (listener as OnHierarchyChangeListener).onChildViewAdded(parent, child)
+        }
+      }
+
+      override fun onChildViewRemoved(parent: View, child: View) {
+        for (listener in listeners.snapshot()) {
+          (listener as OnHierarchyChangeListener).onChildViewRemoved(parent, child)
+        }
+      }
+    }
+  }
+}
@@ -12,6 +12,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of action view events for `menuItem`.
@@ -38,7 +39,8 @@ private class MenuItemActionViewEventObservable(
   private val handled: (MenuItemActionViewEvent) -> Boolean
 ) : Observable<MenuItemActionViewEvent>() {
 
-  override fun subscribeActual(observer: Observer<in MenuItemActionViewEvent>) {
+  override fun subscribeActual(downstream: Observer<in MenuItemActionViewEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -0,0 +1,24 @@
+package com.jakewharton.rxbinding4.view
+
+import android.view.View
+import android.view.View.OnTouchListener
+import com.jakewharton.rxbinding4.internal.ListenerMultiplexer
+import com.jakewharton.rxbinding4.internal.Listeners
+
+internal object TouchMultiplexer : ListenerMultiplexer<View, OnTouchListener>() {
+  override fun setListener(view: View, listener: OnTouchListener?) {
+    view.setOnTouchListener(listener)
+  }
+
+  override fun createDispatcher(listeners: Listeners<OnTouchListener>): OnTouchListener {
+    return OnTouchListener { v, event ->
+      var handled = false
+      for (listener in listeners.snapshot()) {
+        if ((listener as OnTouchListener).onTouch(v, event)) {
+          handled = true
+        }
+      }
+      handled
+    }
+  }
+}
@@ -9,8 +9,10 @@ import androidx.annotation.CheckResult
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import java.lang.ref.WeakReference
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of attach and detach events on `view`.
@@ -27,7 +29,8 @@ private class ViewAttachEventObservable(
   private val view: View
 ) : Observable<ViewAttachEvent>() {
 
-  override fun subscribeActual(observer: Observer<in ViewAttachEvent>) {
+  override fun subscribeActual(downstream: Observer<in ViewAttachEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -58,3 +61,53 @@ private class ViewAttachEventObservable(
     }
   }
 }
+
+/**
+ * Create an observable of the attached state of `view` which emits `true` on attach and `false`
+ * on detach.
+ *
+ * Unlike [attachEvents], neither the created observable nor its subscriptions keep a strong
+ * reference to `view` and the emitted values do not reference `view`. A subscription which
+ * outlives `view` does not keep it or its `Context` reachable.
+ */
+@CheckResult
+fun View.weakAttachStateChanges(): Observable<Boolean> {
+  return ViewWeakAttachStateChangeObservable(WeakReference(this))
+}
+
+private class ViewWeakAttachStateChangeObservable(
+  private val view: WeakReference<View>
+) : Observable<Boolean>() {
+
+  override fun subscribeActual(downstream: Observer<in Boolean>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.get()?.addOnAttachStateChangeListener(listener)
+  }
+
+  private class Listener(
+    private val view: WeakReference<View>,
+    private val observer: Observer<in Boolean>
+  ) : MainThreadDisposable(), OnAttachStateChangeListener {
+
+    override fun onViewAttachedToWindow(v: View) {
+      if (!isDisposed) {
+        observer.onNext(true)
+      }
+    }
+
+    override fun onViewDetachedFromWindow(v: View) {
+      if (!isDisposed) {
+        observer.onNext(false)
+      }
+    }
+
+    override fun onDispose() {
+      view.get()?.removeOnAttachStateChangeListener(this)
+    }
+  }
+}
@@ -9,8 +9,10 @@ import androidx.annotation.CheckResult
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import java.lang.ref.WeakReference
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable which emits on `view` click events. The emitted value is
@@ -19,8 +21,9 @@ import com.jakewharton.rxbinding4.internal.checkMainThread
  * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
  * to free this reference.
  *
- * *Warning:* The created observable uses [View.setOnClickListener] to observe
- * clicks. Only one observable can be used for a view at a time.
+ * *Note:* The created observable uses [View.setOnClickListener] to observe clicks. Any
+ * number of observables can be subscribed for a view at a time and will share that listener.
+ * Setting a different click listener on `view` will stop all observables from receiving events.
  */
 @CheckResult
 fun View.clicks(): Observable<Unit> {
@@ -31,13 +34,14 @@ private class ViewClickObservable(
   private val view: View
 ) : Observable<Unit>() {
 
-  override fun subscribeActual(observer: Observer<in Unit>) {
+  override fun subscribeActual(downstream: Observer<in Unit>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
     val listener = Listener(view, observer)
     observer.onSubscribe(listener)
-    view.setOnClickListener(listener)
+    ClickMultiplexer.add(view, listener)
   }
 
   private class Listener(
@@ -52,7 +56,53 @@ private class ViewClickObservable(
     }
 
     override fun onDispose() {
-      view.setOnClickListener(null)
+      ClickMultiplexer.remove(view, this)
+    }
+  }
+}
+
+/**
+ * Create an observable which emits on `view` click events. The emitted value is
+ * unspecified and should only be used as notification.
+ *
+ * Unlike [clicks], neither the created observable nor its subscriptions keep a strong reference
+ * to `view`. A subscription which outlives `view` does not keep it or its `Context` reachable.
+ *
+ * *Note:* The created observable shares a click listener with [clicks].
+ */
+@CheckResult
+fun View.weakClicks(): Observable<Unit> {
+  return ViewWeakClickObservable(WeakReference(this))
+}
+
+private class ViewWeakClickObservable(
+  private val view: WeakReference<View>
+) : Observable<Unit>() {
+
+  override fun subscribeActual(downstream: Observer<in Unit>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    // A collected view can never be clicked. Leave the subscription idle.
+    view.get()?.let { ClickMultiplexer.add(it, listener) }
+  }
+
+  private class Listener(
+    private val view: WeakReference<View>,
+    private val observer: Observer<in Unit>
+  ) : MainThreadDisposable(), OnClickListener {
+
+    override fun onClick(v: View) {
+      if (!isDisposed) {
+        observer.onNext(Unit)
+      }
+    }
+
+    override fun onDispose() {
+      view.get()?.let { ClickMultiplexer.remove(it, this) }
     }
   }
 }
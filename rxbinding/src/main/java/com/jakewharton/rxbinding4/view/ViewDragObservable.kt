@@ -13,6 +13,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of [DragEvent] for `view`.
@@ -37,7 +38,8 @@ private class ViewDragObservable(
   private val handled: (DragEvent) -> Boolean
 ) : Observable<DragEvent>() {
 
-  override fun subscribeActual(observer: Observer<in DragEvent>) {
+  override fun subscribeActual(downstream: Observer<in DragEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -0,0 +1,191 @@
+@file:JvmName("RxView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.view
+
+import android.view.View
+import androidx.annotation.CheckResult
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+
+/**
+ * Create an observable of confirmed single taps on `view`. Taps are only confirmed once the
+ * double tap timeout has elapsed without a second tap.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* All gesture observables for a view ([taps], [doubleTaps], [longPresses], [flings],
+ * [pinches], and [rotations]) share a single set of gesture detectors, fed from the touch
+ * listener shared with [touches]. Touches are otherwise left to `view`, so its clicks, pressed
+ * state, and scrolling are unaffected. Only the down of a touch on a view which is neither
+ * clickable nor long-clickable is reported as handled so that the rest of the touch reaches the
+ * detectors.
+ */
+@CheckResult
+fun View.taps(): Observable<ViewGesturePoint> {
+  return ViewTapObservable(this)
+}
+
+/**
+ * Create an observable of double taps on `view`. The emitted point is that of the first tap.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * @see taps for how gesture observables share the touches of `view`.
+ */
+@CheckResult
+fun View.doubleTaps(): Observable<ViewGesturePoint> {
+  return ViewDoubleTapObservable(this)
+}
+
+/**
+ * Create an observable of long presses on `view`.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * @see taps for how gesture observables share the touches of `view`.
+ */
+@CheckResult
+fun View.longPresses(): Observable<ViewGesturePoint> {
+  return ViewLongPressObservable(this)
+}
+
+/**
+ * Create an observable of flings on `view`.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * @see taps for how gesture observables share the touches of `view`.
+ */
+@CheckResult
+fun View.flings(): Observable<ViewFlingEvent> {
+  return ViewFlingObservable(this)
+}
+
+/**
+ * Create an observable of the incremental scale changes of pinches on `view`.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * @see taps for how gesture observables share the touches of `view`.
+ */
+@CheckResult
+fun View.pinches(): Observable<ViewPinchEvent> {
+  return ViewPinchObservable(this)
+}
+
+/**
+ * Create an observable of the incremental angle changes of two-finger rotations on `view`.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * @see taps for how gesture observables share the touches of `view`.
+ */
+@CheckResult
+fun View.rotations(): Observable<ViewRotateEvent> {
+  return ViewRotateObservable(this)
+}
+
+/** The point in view coordinates of a tap, double tap, or long press. */
+data class ViewGesturePoint(val x: Float, val y: Float)
+
+/** A fling with velocities in pixels per second. */
+data class ViewFlingEvent(val velocityX: Float, val velocityY: Float)
+
+/** A change in pinch scale by [scaleFactor] around the focal point [focusX], [focusY]. */
+data class ViewPinchEvent(val scaleFactor: Float, val focusX: Float, val focusY: Float)
+
+/**
+ * A clockwise rotation by [degrees] around the focal point [focusX], [focusY]. Counterclockwise
+ * rotations are negative.
+ */
+data class ViewRotateEvent(val degrees: Float, val focusX: Float, val focusY: Float)
+
+/** Each gesture has its own subclass so that instrumentation can tell them apart. */
+private abstract class ViewGestureObservable<T : Any>(
+  private val view: View
+) : Observable<T>() {
+
+  protected abstract fun createListener(view: View, observer: Observer<in T>): GestureObserver<T>
+
+  override fun subscribeActual(downstream: Observer<in T>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = createListener(view, observer)
+    observer.onSubscribe(listener)
+    GestureMultiplexer.add(view, listener)
+  }
+}
+
+private class ViewTapObservable(view: View) : ViewGestureObservable<ViewGesturePoint>(view) {
+  override fun createListener(view: View, observer: Observer<in ViewGesturePoint>) =
+      object : GestureObserver<ViewGesturePoint>(view, observer) {
+        override fun onTap(x: Float, y: Float) = emit(ViewGesturePoint(x, y))
+      }
+}
+
+private class ViewDoubleTapObservable(view: View) : ViewGestureObservable<ViewGesturePoint>(view) {
+  override fun createListener(view: View, observer: Observer<in ViewGesturePoint>) =
+      object : GestureObserver<ViewGesturePoint>(view, observer) {
+        override fun onDoubleTap(x: Float, y: Float) = emit(ViewGesturePoint(x, y))
+      }
+}
+
+private class ViewLongPressObservable(view: View) : ViewGestureObservable<ViewGesturePoint>(view) {
+  override fun createListener(view: View, observer: Observer<in ViewGesturePoint>) =
+      object : GestureObserver<ViewGesturePoint>(view, observer) {
+        override fun onLongPress(x: Float, y: Float) = emit(ViewGesturePoint(x, y))
+      }
+}
+
+private class ViewFlingObservable(view: View) : ViewGestureObservable<ViewFlingEvent>(view) {
+  override fun createListener(view: View, observer: Observer<in ViewFlingEvent>) =
+      object : GestureObserver<ViewFlingEvent>(view, observer) {
+        override fun onFling(velocityX: Float, velocityY: Float) =
+            emit(ViewFlingEvent(velocityX, velocityY))
+      }
+}
+
+private class ViewPinchObservable(view: View) : ViewGestureObservable<ViewPinchEvent>(view) {
+  override fun createListener(view: View, observer: Observer<in ViewPinchEvent>) =
+      object : GestureObserver<ViewPinchEvent>(view, observer) {
+        override fun onPinch(scaleFactor: Float, focusX: Float, focusY: Float) =
+            emit(ViewPinchEvent(scaleFactor, focusX, focusY))
+      }
+}
+
+private class ViewRotateObservable(view: View) : ViewGestureObservable<ViewRotateEvent>(view) {
+  override fun createListener(view: View, observer: Observer<in ViewRotateEvent>) =
+      object : GestureObserver<ViewRotateEvent>(view, observer) {
+        override fun onRotate(degrees: Float, focusX: Float, focusY: Float) =
+            emit(ViewRotateEvent(degrees, focusX, focusY))
+      }
+}
+
+private abstract class GestureObserver<T : Any>(
+  private val view: View,
+  private val observer: Observer<in T>
+) : MainThreadDisposable(), GestureListener {
+
+  protected fun emit(value: T) {
+    if (!isDisposed) {
+      observer.onNext(value)
+    }
+  }
+
+  override fun onDispose() {
+    GestureMultiplexer.remove(view, this)
+  }
+}
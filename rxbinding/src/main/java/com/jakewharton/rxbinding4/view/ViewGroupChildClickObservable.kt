@@ -0,0 +1,129 @@
+@file:JvmName("RxViewGroup")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.view
+
+import android.view.MotionEvent
+import android.view.SoundEffectConstants
+import android.view.View
+import android.view.View.OnTouchListener
+import android.view.ViewConfiguration
+import android.view.ViewGroup
+import androidx.annotation.CheckResult
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+
+/**
+ * Create an observable which emits the child of `viewGroup` which was tapped. Children added
+ * while subscribed are observed as well.
+ *
+ * A single touch listener on `viewGroup` hit-tests its direct children when a tap lands on one,
+ * shows the pressed state of that child while it is held, and emits it on release. Children
+ * keep their own listeners and clickable state. Use `map { it.id }` to identify children by ID.
+ *
+ * *Warning:* The created observable keeps a strong reference to `viewGroup`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* Only taps on enabled, visible, direct children which do not handle touches themselves
+ * are observed. A clickable child consumes its own touches and keeps reporting its clicks through
+ * its own listener. Taps on nested descendants are reported as taps on the direct child which
+ * contains them. Keyboard and accessibility clicks are not observed since children which are not
+ * clickable cannot receive them. The created observable shares the touch listener of `viewGroup`
+ * with [touches].
+ */
+@CheckResult
+fun ViewGroup.childClicks(): Observable<View> {
+  return ViewGroupChildClickObservable(this)
+}
+
+private class ViewGroupChildClickObservable(
+  private val viewGroup: ViewGroup
+) : Observable<View>() {
+
+  override fun subscribeActual(downstream: Observer<in View>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(viewGroup, observer)
+    observer.onSubscribe(listener)
+    TouchMultiplexer.add(viewGroup, listener)
+  }
+
+  private class Listener(
+    private val viewGroup: ViewGroup,
+    private val observer: Observer<in View>
+  ) : MainThreadDisposable(), OnTouchListener {
+    private val touchSlop = ViewConfiguration.get(viewGroup.context).scaledTouchSlop
+    /** The child under the current gesture, or null when no tap is in progress. */
+    private var pressed: View? = null
+
+    override fun onTouch(v: View, event: MotionEvent): Boolean {
+      if (isDisposed) {
+        return false
+      }
+      when (event.actionMasked) {
+        MotionEvent.ACTION_DOWN -> {
+          val child = childUnder(event.x, event.y) ?: return false
+          child.isPressed = true
+          pressed = child
+        }
+        MotionEvent.ACTION_MOVE -> {
+          val child = pressed ?: return false
+          if (!isOver(child, event.x, event.y, touchSlop.toFloat())) {
+            release()
+          }
+        }
+        MotionEvent.ACTION_UP -> {
+          val child = pressed ?: return false
+          release()
+          if (isOver(child, event.x, event.y, touchSlop.toFloat())) {
+            child.playSoundEffect(SoundEffectConstants.CLICK)
+            observer.onNext(child)
+          }
+        }
+        MotionEvent.ACTION_POINTER_DOWN, MotionEvent.ACTION_CANCEL -> {
+          if (pressed == null) {
+            return false
+          }
+          release()
+        }
+        else -> if (pressed == null) return false
+      }
+      // Consume the rest of a gesture which began on a child so that its release is delivered.
+      return true
+    }
+
+    /** Find the topmost direct child under the point given in the coordinates of `viewGroup`. */
+    private fun childUnder(x: Float, y: Float): View? {
+      for (i in viewGroup.childCount - 1 downTo 0) {
+        val child = viewGroup.getChildAt(i)
+        if (child.visibility == View.VISIBLE && child.isEnabled && isOver(child, x, y, 0f)) {
+          return child
+        }
+      }
+      return null
+    }
+
+    private fun isOver(child: View, x: Float, y: Float, slop: Float): Boolean {
+      val localX = x + viewGroup.scrollX - child.x
+      val localY = y + viewGroup.scrollY - child.y
+      return localX >= -slop && localY >= -slop &&
+          localX < child.width + slop && localY < child.height + slop
+    }
+
+    private fun release() {
+      pressed?.isPressed = false
+      pressed = null
+    }
+
+    override fun onDispose() {
+      TouchMultiplexer.remove(viewGroup, this)
+      release()
+    }
+  }
+}
@@ -12,12 +12,17 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of hierarchy change events for `viewGroup`.
  *
  * *Warning:* The created observable keeps a strong reference to `viewGroup`.
  * Unsubscribe to free this reference.
+ *
+ * *Note:* The created observable uses [ViewGroup.setOnHierarchyChangeListener] to observe
+ * changes. Any number of observables can be subscribed for a view group at a time and will share
+ * that listener.
  */
 @CheckResult
 fun ViewGroup.changeEvents(): Observable<ViewGroupHierarchyChangeEvent> {
@@ -28,13 +33,14 @@ private class ViewGroupHierarchyChangeEventObservable(
   private val viewGroup: ViewGroup
 ) : Observable<ViewGroupHierarchyChangeEvent>() {
 
-  override fun subscribeActual(observer: Observer<in ViewGroupHierarchyChangeEvent>) {
+  override fun subscribeActual(downstream: Observer<in ViewGroupHierarchyChangeEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
     val listener = Listener(viewGroup, observer)
     observer.onSubscribe(listener)
-    viewGroup.setOnHierarchyChangeListener(listener)
+    HierarchyChangeMultiplexer.add(viewGroup, listener)
   }
 
   private class Listener(
@@ -55,7 +61,7 @@ private class ViewGroupHierarchyChangeEventObservable(
     }
 
     override fun onDispose() {
-      viewGroup.setOnHierarchyChangeListener(null)
+      HierarchyChangeMultiplexer.remove(viewGroup, this)
     }
   }
 }
@@ -9,6 +9,7 @@ import android.view.View.OnHoverListener
 import androidx.annotation.CheckResult
 import com.jakewharton.rxbinding4.internal.AlwaysTrue
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -44,7 +45,8 @@ private class ViewHoverObservable(
   private val handled: (MotionEvent) -> Boolean
 ) : Observable<MotionEvent>() {
 
-  override fun subscribeActual(observer: Observer<in MotionEvent>) {
+  override fun subscribeActual(downstream: Observer<in MotionEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
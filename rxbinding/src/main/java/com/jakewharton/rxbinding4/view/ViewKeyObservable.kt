@@ -12,15 +12,19 @@ import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
+import com.jakewharton.rxbinding4.internal.ListenerMultiplexer
+import com.jakewharton.rxbinding4.internal.Listeners
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of key events for `view`.
  *
  * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
  * to free this reference.
- * *Warning:* The created observable uses [View.setOnKeyListener] to observe
- * key events. Only one observable can be used for a view at a time.
+ * *Note:* The created observable uses [View.setOnKeyListener] to observe key events. Any
+ * number of observables can be subscribed for a view at a time and will share that listener. The
+ * event is reported as handled if any of their `handled` predicates return true.
  *
  * @param handled Predicate invoked each occurrence to determine the return value of the
  * underlying [View.OnKeyListener].
@@ -36,13 +40,14 @@ private class ViewKeyObservable(
   private val handled: (KeyEvent) -> Boolean
 ) : Observable<KeyEvent>() {
 
-  override fun subscribeActual(observer: Observer<in KeyEvent>) {
+  override fun subscribeActual(downstream: Observer<in KeyEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
     val listener = Listener(view, handled, observer)
     observer.onSubscribe(listener)
-    view.setOnKeyListener(listener)
+    KeyMultiplexer.add(view, listener)
   }
 
   private class Listener(
@@ -68,7 +73,25 @@ private class ViewKeyObservable(
     }
 
     override fun onDispose() {
-      view.setOnKeyListener(null)
+      KeyMultiplexer.remove(view, this)
+    }
+  }
+}
+
+private object KeyMultiplexer : ListenerMultiplexer<View, OnKeyListener>() {
+  override fun setListener(view: View, listener: OnKeyListener?) {
+    view.setOnKeyListener(listener)
+  }
+
+  override fun createDispatcher(listeners: Listeners<OnKeyListener>): OnKeyListener {
+    return OnKeyListener { v, keyCode, event ->
+      var handled = false
+      for (listener in listeners.snapshot()) {
+        if ((listener as OnKeyListener).onKey(v, keyCode, event)) {
+          handled = true
+        }
+      }
+      handled
     }
   }
 }
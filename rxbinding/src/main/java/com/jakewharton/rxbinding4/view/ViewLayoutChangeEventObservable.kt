@@ -12,6 +12,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of layout-change events for `view`.
@@ -62,7 +63,8 @@ private class ViewLayoutChangeEventObservable(
   private val view: View
 ) : Observable<ViewLayoutChangeEvent>() {
 
-  override fun subscribeActual(observer: Observer<in ViewLayoutChangeEvent>) {
+  override fun subscribeActual(downstream: Observer<in ViewLayoutChangeEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -13,6 +13,7 @@ import io.reactivex.rxjava3.android.MainThreadDisposable
 import java.util.concurrent.Callable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable which emits on `view` long-click events. The emitted value is
@@ -38,7 +39,8 @@ private class ViewLongClickObservable(
   private val handled: () -> Boolean
 ) : Observable<Unit>() {
 
-  override fun subscribeActual(observer: Observer<in Unit>) {
+  override fun subscribeActual(downstream: Observer<in Unit>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
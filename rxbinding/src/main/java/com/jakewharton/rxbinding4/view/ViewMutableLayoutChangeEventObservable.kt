@@ -0,0 +1,113 @@
+@file:JvmName("RxView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.view
+
+import android.content.Context
+import android.view.View
+import android.view.View.OnLayoutChangeListener
+import androidx.annotation.CheckResult
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+
+/**
+ * Create an observable of layout-change events for `view` which does not allocate per event.
+ *
+ * *Warning:* Values emitted by this observable are **mutable** and the same instance is
+ * re-emitted for every event of a subscription and thus are **not safe** to cache or delay
+ * reading (such as by observing on a different thread). If you want to cache or delay reading
+ * the items emitted then you must map values through [MutableViewLayoutChangeEvent.toImmutable]
+ * to create a copy.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ */
+@CheckResult
+fun View.mutableLayoutChangeEvents(): Observable<MutableViewLayoutChangeEvent> {
+  return ViewMutableLayoutChangeEventObservable(this)
+}
+
+/**
+ * A layout-change event on a view whose instance is reused for every event of a subscription.
+ *
+ * **Warning:** Instances keep a strong reference to the view. Operators that cache
+ * instances have the potential to leak the associated [Context].
+ */
+class MutableViewLayoutChangeEvent internal constructor(
+  /** The view from which this event occurred. */
+  val view: View
+) {
+  var left: Int = 0
+    internal set
+  var top: Int = 0
+    internal set
+  var right: Int = 0
+    internal set
+  var bottom: Int = 0
+    internal set
+  var oldLeft: Int = 0
+    internal set
+  var oldTop: Int = 0
+    internal set
+  var oldRight: Int = 0
+    internal set
+  var oldBottom: Int = 0
+    internal set
+
+  /** Create an immutable copy of the current values. */
+  fun toImmutable() =
+      ViewLayoutChangeEvent(view, left, top, right, bottom, oldLeft, oldTop, oldRight, oldBottom)
+
+  override fun toString(): String {
+    return "MutableViewLayoutChangeEvent(view=$view, left=$left, top=$top, right=$right, " +
+        "bottom=$bottom, oldLeft=$oldLeft, oldTop=$oldTop, oldRight=$oldRight, " +
+        "oldBottom=$oldBottom)"
+  }
+}
+
+private class ViewMutableLayoutChangeEventObservable(
+  private val view: View
+) : Observable<MutableViewLayoutChangeEvent>() {
+
+  override fun subscribeActual(downstream: Observer<in MutableViewLayoutChangeEvent>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.addOnLayoutChangeListener(listener)
+  }
+
+  private class Listener(
+    private val view: View,
+    private val observer: Observer<in MutableViewLayoutChangeEvent>
+  ) : MainThreadDisposable(), OnLayoutChangeListener {
+    private val event = MutableViewLayoutChangeEvent(view)
+
+    override fun onLayoutChange(
+      v: View, left: Int, top: Int, right: Int, bottom: Int, oldLeft: Int,
+      oldTop: Int, oldRight: Int, oldBottom: Int
+    ) {
+      if (!isDisposed) {
+        event.left = left
+        event.top = top
+        event.right = right
+        event.bottom = bottom
+        event.oldLeft = oldLeft
+        event.oldTop = oldTop
+        event.oldRight = oldRight
+        event.oldBottom = oldBottom
+        observer.onNext(event)
+      }
+    }
+
+    override fun onDispose() {
+      view.removeOnLayoutChangeListener(this)
+    }
+  }
+}
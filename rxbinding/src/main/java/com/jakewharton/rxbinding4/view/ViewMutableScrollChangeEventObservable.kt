@@ -0,0 +1,104 @@
+@file:JvmName("RxView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.view
+
+import androidx.annotation.RequiresApi
+import android.view.View
+import android.view.View.OnScrollChangeListener
+import androidx.annotation.CheckResult
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+
+/**
+ * Create an observable of scroll-change events for `view` which does not allocate per event.
+ *
+ * *Warning:* Values emitted by this observable are **mutable** and the same instance is
+ * re-emitted for every event of a subscription and thus are **not safe** to cache or delay
+ * reading (such as by observing on a different thread). If you want to cache or delay reading
+ * the items emitted then you must map values through [MutableViewScrollChangeEvent.toImmutable]
+ * to create a copy.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ */
+@RequiresApi(23)
+@CheckResult
+fun View.mutableScrollChangeEvents(): Observable<MutableViewScrollChangeEvent> {
+  return ViewMutableScrollChangeEventObservable(this)
+}
+
+/**
+ * A scroll-change event on a view whose instance is reused for every event of a subscription.
+ *
+ * **Warning:** Instances keep a strong reference to the view. Operators that cache
+ * instances have the potential to leak the associated [android.content.Context].
+ */
+class MutableViewScrollChangeEvent internal constructor(
+  /** The view from which this event occurred.  */
+  val view: View
+) {
+  var scrollX: Int = 0
+    internal set
+  var scrollY: Int = 0
+    internal set
+  var oldScrollX: Int = 0
+    internal set
+  var oldScrollY: Int = 0
+    internal set
+
+  /** Create an immutable copy of the current values. */
+  fun toImmutable() = ViewScrollChangeEvent(view, scrollX, scrollY, oldScrollX, oldScrollY)
+
+  override fun toString(): String {
+    return "MutableViewScrollChangeEvent(view=$view, scrollX=$scrollX, scrollY=$scrollY, " +
+        "oldScrollX=$oldScrollX, oldScrollY=$oldScrollY)"
+  }
+}
+
+@RequiresApi(23)
+private class ViewMutableScrollChangeEventObservable(
+  private val view: View
+) : Observable<MutableViewScrollChangeEvent>() {
+
+  override fun subscribeActual(downstream: Observer<in MutableViewScrollChangeEvent>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.setOnScrollChangeListener(listener)
+  }
+
+  private class Listener(
+    private val view: View,
+    private val observer: Observer<in MutableViewScrollChangeEvent>
+  ) : MainThreadDisposable(), OnScrollChangeListener {
+    private val event = MutableViewScrollChangeEvent(view)
+
+    override fun onScrollChange(
+      v: View,
+      scrollX: Int,
+      scrollY: Int,
+      oldScrollX: Int,
+      oldScrollY: Int
+    ) {
+      if (!isDisposed) {
+        event.scrollX = scrollX
+        event.scrollY = scrollY
+        event.oldScrollX = oldScrollX
+        event.oldScrollY = oldScrollY
+        observer.onNext(event)
+      }
+    }
+
+    override fun onDispose() {
+      view.setOnScrollChangeListener(null)
+    }
+  }
+}
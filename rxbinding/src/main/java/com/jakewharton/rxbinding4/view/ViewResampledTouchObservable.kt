@@ -0,0 +1,241 @@
+@file:JvmName("RxView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.view
+
+import android.view.Choreographer
+import android.view.Choreographer.FrameCallback
+import android.view.MotionEvent
+import android.view.MotionEvent.ACTION_CANCEL
+import android.view.MotionEvent.ACTION_DOWN
+import android.view.MotionEvent.ACTION_POINTER_DOWN
+import android.view.MotionEvent.ACTION_POINTER_UP
+import android.view.MotionEvent.ACTION_UP
+import android.view.View
+import android.view.View.OnTouchListener
+import androidx.annotation.CheckResult
+import androidx.annotation.RequiresApi
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+import com.jakewharton.rxbinding4.internal.AlwaysTrue
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+
+/**
+ * Create an observable of the positions of the pointers touching `view` resampled to the time
+ * of each frame.
+ *
+ * Rather than emitting at the rate of input, which is unrelated to and often faster than the
+ * display, at most one value is emitted per [Choreographer] frame in which new input arrived.
+ * The position of each pointer is interpolated between its two most recent samples at the frame
+ * time less a small latency, or extrapolated up to a short limit beyond the latest sample.
+ * When all pointers are lifted a final value with the last actual positions is emitted.
+ *
+ * *Warning:* Values emitted by this observable are **mutable** and the same instance is
+ * re-emitted for every frame of a subscription and thus are **not safe** to cache or delay
+ * reading (such as by observing on a different thread).
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* The created observable shares a touch listener with [touches]. The event is
+ * reported as handled if any of the `handled` predicates of those observables return true. Only
+ * events for which `handled` returns true are resampled.
+ *
+ * @param predictionMillis How far ahead of the resampling time to predict pointer positions.
+ * Larger values reduce perceived latency at the cost of overshooting on sudden changes in
+ * direction.
+ * @param handled Predicate invoked with each event to determine the return value of the
+ * underlying [View.OnTouchListener].
+ */
+@RequiresApi(16)
+@CheckResult
+@JvmOverloads
+fun View.resampledTouches(
+  predictionMillis: Long = 0,
+  handled: (MotionEvent) -> Boolean = AlwaysTrue
+): Observable<ResampledTouches> {
+  require(predictionMillis >= 0) { "predictionMillis < 0: $predictionMillis" }
+  return ViewResampledTouchObservable(this, predictionMillis, handled)
+}
+
+/**
+ * The positions of the pointers touching a view at [sampleTimeMillis]. The pointer at index `i`
+ * has the ID `pointerIds[i]` and position `x[i]`, `y[i]`. Arrays are reused and may be larger
+ * than [pointerCount].
+ */
+class ResampledTouches internal constructor() {
+  /** The time of the frame for which these positions were resampled. */
+  var frameTimeNanos: Long = 0
+    internal set
+  /** The time in the [android.os.SystemClock.uptimeMillis] time base of these positions. */
+  var sampleTimeMillis: Long = 0
+    internal set
+  var pointerCount: Int = 0
+    internal set
+  val pointerIds = IntArray(MAX_POINTERS)
+  val x = FloatArray(MAX_POINTERS)
+  val y = FloatArray(MAX_POINTERS)
+  /** True when all pointers were lifted. Positions are those of the final event. */
+  var isFinal: Boolean = false
+    internal set
+
+  override fun toString(): String {
+    return "ResampledTouches(frameTimeNanos=$frameTimeNanos, " +
+        "sampleTimeMillis=$sampleTimeMillis, pointerCount=$pointerCount, isFinal=$isFinal)"
+  }
+}
+
+/** Pointer IDs are in the range 0..31. */
+private const val MAX_POINTERS = 32
+/** Resample slightly in the past so that interpolation is usually possible. */
+private const val RESAMPLE_LATENCY_MILLIS = 5L
+/** The furthest to extrapolate beyond the latest sample, excluding any prediction. */
+private const val MAX_EXTRAPOLATION_MILLIS = 8L
+
+@RequiresApi(16)
+private class ViewResampledTouchObservable(
+  private val view: View,
+  private val predictionMillis: Long,
+  private val handled: (MotionEvent) -> Boolean
+) : Observable<ResampledTouches>() {
+
+  override fun subscribeActual(downstream: Observer<in ResampledTouches>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener =
+        Listener(view, predictionMillis, handled, observer, Choreographer.getInstance())
+    observer.onSubscribe(listener)
+    TouchMultiplexer.add(view, listener)
+  }
+
+  private class Listener(
+    private val view: View,
+    private val predictionMillis: Long,
+    private val handled: (MotionEvent) -> Boolean,
+    private val observer: Observer<in ResampledTouches>,
+    private val choreographer: Choreographer
+  ) : MainThreadDisposable(), OnTouchListener, FrameCallback {
+    private val touches = ResampledTouches()
+    // The two most recent samples of each pointer, indexed by pointer ID.
+    private val oldTime = LongArray(MAX_POINTERS)
+    private val oldX = FloatArray(MAX_POINTERS)
+    private val oldY = FloatArray(MAX_POINTERS)
+    private val newTime = LongArray(MAX_POINTERS)
+    private val newX = FloatArray(MAX_POINTERS)
+    private val newY = FloatArray(MAX_POINTERS)
+    private val activeIds = IntArray(MAX_POINTERS)
+    private var activeCount = 0
+    private var ended = false
+    private var framePending = false
+
+    override fun onTouch(v: View, event: MotionEvent): Boolean {
+      if (!isDisposed) {
+        try {
+          if (handled(event)) {
+            resample(event)
+            return true
+          }
+        } catch (e: Exception) {
+          observer.onError(e)
+          dispose()
+        }
+      }
+      return false
+    }
+
+    private fun resample(event: MotionEvent) {
+      val action = event.actionMasked
+      if (action == ACTION_DOWN) {
+        ended = false
+      }
+      for (sample in 0 until event.historySize) {
+        val time = event.getHistoricalEventTime(sample)
+        for (pointer in 0 until event.pointerCount) {
+          add(event.getPointerId(pointer), time, event.getHistoricalX(pointer, sample),
+              event.getHistoricalY(pointer, sample), false)
+        }
+      }
+      for (pointer in 0 until event.pointerCount) {
+        val down = action == ACTION_DOWN ||
+            action == ACTION_POINTER_DOWN && pointer == event.actionIndex
+        add(event.getPointerId(pointer), event.eventTime, event.getX(pointer), event.getY(pointer),
+            down)
+      }
+
+      activeCount = 0
+      if (action == ACTION_UP || action == ACTION_CANCEL) {
+        ended = true
+        for (pointer in 0 until event.pointerCount) {
+          activeIds[activeCount++] = event.getPointerId(pointer)
+        }
+      } else {
+        for (pointer in 0 until event.pointerCount) {
+          if (action != ACTION_POINTER_UP || pointer != event.actionIndex) {
+            activeIds[activeCount++] = event.getPointerId(pointer)
+          }
+        }
+      }
+
+      if (!framePending) {
+        framePending = true
+        choreographer.postFrameCallback(this)
+      }
+    }
+
+    private fun add(id: Int, time: Long, x: Float, y: Float, reset: Boolean) {
+      if (reset) {
+        // A new pointer has no history to interpolate with.
+        oldTime[id] = time
+        oldX[id] = x
+        oldY[id] = y
+      } else if (time != newTime[id]) {
+        oldTime[id] = newTime[id]
+        oldX[id] = newX[id]
+        oldY[id] = newY[id]
+      }
+      newTime[id] = time
+      newX[id] = x
+      newY[id] = y
+    }
+
+    override fun doFrame(frameTimeNanos: Long) {
+      framePending = false
+      if (isDisposed) {
+        return
+      }
+      val touches = touches
+      val sampleTime = frameTimeNanos / 1_000_000 - RESAMPLE_LATENCY_MILLIS + predictionMillis
+      touches.frameTimeNanos = frameTimeNanos
+      touches.sampleTimeMillis = sampleTime
+      touches.pointerCount = activeCount
+      touches.isFinal = ended
+      for (i in 0 until activeCount) {
+        val id = activeIds[i]
+        touches.pointerIds[i] = id
+        val t0 = oldTime[id]
+        val t1 = newTime[id]
+        if (ended || t1 <= t0) {
+          touches.x[i] = newX[id]
+          touches.y[i] = newY[id]
+        } else {
+          val limit = t1 + minOf((t1 - t0) / 2, MAX_EXTRAPOLATION_MILLIS) + predictionMillis
+          val time = minOf(sampleTime, limit).coerceAtLeast(t0)
+          val alpha = (time - t0).toFloat() / (t1 - t0)
+          touches.x[i] = oldX[id] + alpha * (newX[id] - oldX[id])
+          touches.y[i] = oldY[id] + alpha * (newY[id] - oldY[id])
+        }
+      }
+      observer.onNext(touches)
+    }
+
+    override fun onDispose() {
+      TouchMultiplexer.remove(view, this)
+      choreographer.removeFrameCallback(this)
+    }
+  }
+}
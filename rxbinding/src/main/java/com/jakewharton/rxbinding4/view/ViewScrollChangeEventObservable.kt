@@ -12,6 +12,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of scroll-change events for `view`.
@@ -30,7 +31,8 @@ private class ViewScrollChangeEventObservable(
   private val view: View
 ) : Observable<ViewScrollChangeEvent>() {
 
-  override fun subscribeActual(observer: Observer<in ViewScrollChangeEvent>) {
+  override fun subscribeActual(downstream: Observer<in ViewScrollChangeEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -6,11 +6,15 @@ package com.jakewharton.rxbinding4.view
 import android.view.View
 import android.view.View.OnSystemUiVisibilityChangeListener
 import androidx.annotation.CheckResult
+import com.jakewharton.rxbinding4.IntObservable
+import com.jakewharton.rxbinding4.IntObserver
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of integers representing a new system UI visibility for `view`.
@@ -31,7 +35,8 @@ private class ViewSystemUiVisibilityChangeObservable(
   private val view: View
 ) : Observable<Int>() {
 
-  override fun subscribeActual(observer: Observer<in Int>) {
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -56,3 +61,46 @@ private class ViewSystemUiVisibilityChangeObservable(
     }
   }
 }
+
+/**
+ * Create a source of integers representing a new system UI visibility for `view` which
+ * delivers values without boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Warning:* The created source uses
+ * [View.setOnSystemUiVisibilityChangeListener] to observe system UI visibility changes.
+ * Only one source or observable can be used for a view at a time.
+ */
+@CheckResult
+fun View.primitiveSystemUiVisibilityChanges(): IntObservable {
+  return ViewPrimitiveSystemUiVisibilityChangeObservable(this)
+}
+
+private class ViewPrimitiveSystemUiVisibilityChangeObservable(
+  private val view: View
+) : IntObservable() {
+
+  override fun subscribeActual(observer: IntObserver): Disposable {
+    val listener = Listener(view, observer)
+    view.setOnSystemUiVisibilityChangeListener(listener)
+    return listener
+  }
+
+  private class Listener(
+    private val view: View,
+    private val observer: IntObserver
+  ) : MainThreadDisposable(), OnSystemUiVisibilityChangeListener {
+
+    override fun onSystemUiVisibilityChange(visibility: Int) {
+      if (!isDisposed) {
+        observer.onNext(visibility)
+      }
+    }
+
+    override fun onDispose() {
+      view.setOnSystemUiVisibilityChangeListener(null)
+    }
+  }
+}
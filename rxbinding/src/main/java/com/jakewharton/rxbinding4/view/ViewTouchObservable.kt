@@ -13,6 +13,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of touch events for `view`.
@@ -27,8 +28,9 @@ import com.jakewharton.rxbinding4.internal.checkMainThread
  * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
  * to free this reference.
  *
- * *Warning:* The created observable uses [View.setOnTouchListener] to observe
- * touches. Only one observable can be used for a view at a time.
+ * *Note:* The created observable uses [View.setOnTouchListener] to observe touches. Any
+ * number of observables can be subscribed for a view at a time and will share that listener. The
+ * event is reported as handled if any of their `handled` predicates return true.
  *
  * @param handled Predicate invoked with each value to determine the return value of the
  * underlying [View.OnTouchListener].
@@ -46,13 +48,14 @@ private class ViewTouchObservable(
   private val handled: (MotionEvent) -> Boolean
 ) : Observable<MotionEvent>() {
 
-  override fun subscribeActual(observer: Observer<in MotionEvent>) {
+  override fun subscribeActual(downstream: Observer<in MotionEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
     val listener = Listener(view, handled, observer)
     observer.onSubscribe(listener)
-    view.setOnTouchListener(listener)
+    TouchMultiplexer.add(view, listener)
   }
 
   private class Listener(
@@ -78,7 +81,7 @@ private class ViewTouchObservable(
     }
 
     override fun onDispose() {
-      view.setOnTouchListener(null)
+      TouchMultiplexer.remove(view, this)
     }
   }
 }
@@ -0,0 +1,185 @@
+@file:JvmName("RxView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.view
+
+import android.view.MotionEvent
+import android.view.View
+import android.view.View.OnTouchListener
+import androidx.annotation.CheckResult
+import com.jakewharton.rxbinding4.internal.AlwaysTrue
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+
+/**
+ * Create an observable of the samples of touch events for `view`, including the historical
+ * samples which are batched into each [MotionEvent], copied into primitive arrays.
+ *
+ * *Warning:* Values emitted by this observable are **mutable** and the same instance is
+ * re-emitted for every event of a subscription and thus are **not safe** to cache or delay
+ * reading (such as by observing on a different thread). If you want to cache or delay reading
+ * the items emitted then you must map values through [TouchSamples.copy] to create a copy.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* The created observable shares a touch listener with [touches]. The event is
+ * reported as handled if any of the `handled` predicates of those observables return true.
+ *
+ * @param handled Predicate invoked with each event to determine the return value of the
+ * underlying [View.OnTouchListener].
+ */
+@CheckResult
+@JvmOverloads
+fun View.touchSamples(
+  handled: (MotionEvent) -> Boolean = AlwaysTrue
+): Observable<TouchSamples> {
+  return ViewTouchSamplesObservable(this, handled)
+}
+
+/**
+ * The samples of a touch event. Samples are ordered from oldest to newest and the last sample
+ * is the current position of each pointer. Values for the sample `sample` of the pointer at
+ * index `pointer` are at [index]`(sample, pointer)` in [x], [y], and [pressure].
+ *
+ * Arrays are reused between events and may be larger than needed. Only read the first
+ * [sampleCount] values of [eventTimes], the first [pointerCount] values of [pointerIds], and
+ * the first `sampleCount * pointerCount` values of the others.
+ */
+class TouchSamples internal constructor() {
+  /** The masked action of the event. See [MotionEvent.getActionMasked]. */
+  var action: Int = 0
+    internal set
+  /** The index of the pointer for a pointer up or down action. */
+  var actionIndex: Int = 0
+    internal set
+  var pointerCount: Int = 0
+    internal set
+  var sampleCount: Int = 0
+    internal set
+  var pointerIds = IntArray(0)
+    internal set
+  /** The time of each sample in the [android.os.SystemClock.uptimeMillis] time base. */
+  var eventTimes = LongArray(0)
+    internal set
+  var x = FloatArray(0)
+    internal set
+  var y = FloatArray(0)
+    internal set
+  var pressure = FloatArray(0)
+    internal set
+
+  fun index(sample: Int, pointer: Int) = sample * pointerCount + pointer
+
+  /** Create a copy with arrays trimmed to the current counts. */
+  fun copy(): TouchSamples {
+    val values = sampleCount * pointerCount
+    val copy = TouchSamples()
+    copy.action = action
+    copy.actionIndex = actionIndex
+    copy.pointerCount = pointerCount
+    copy.sampleCount = sampleCount
+    copy.pointerIds = pointerIds.copyOf(pointerCount)
+    copy.eventTimes = eventTimes.copyOf(sampleCount)
+    copy.x = x.copyOf(values)
+    copy.y = y.copyOf(values)
+    copy.pressure = pressure.copyOf(values)
+    return copy
+  }
+
+  internal fun set(event: MotionEvent) {
+    val pointerCount = event.pointerCount
+    val historySize = event.historySize
+    val sampleCount = historySize + 1
+    val values = sampleCount * pointerCount
+    if (pointerIds.size < pointerCount) {
+      pointerIds = IntArray(pointerCount)
+    }
+    if (eventTimes.size < sampleCount) {
+      eventTimes = LongArray(sampleCount)
+    }
+    if (x.size < values) {
+      x = FloatArray(values)
+      y = FloatArray(values)
+      pressure = FloatArray(values)
+    }
+    action = event.actionMasked
+    actionIndex = event.actionIndex
+    this.pointerCount = pointerCount
+    this.sampleCount = sampleCount
+
+    for (pointer in 0 until pointerCount) {
+      pointerIds[pointer] = event.getPointerId(pointer)
+    }
+    var i = 0
+    for (sample in 0 until historySize) {
+      eventTimes[sample] = event.getHistoricalEventTime(sample)
+      for (pointer in 0 until pointerCount) {
+        x[i] = event.getHistoricalX(pointer, sample)
+        y[i] = event.getHistoricalY(pointer, sample)
+        pressure[i] = event.getHistoricalPressure(pointer, sample)
+        i++
+      }
+    }
+    eventTimes[historySize] = event.eventTime
+    for (pointer in 0 until pointerCount) {
+      x[i] = event.getX(pointer)
+      y[i] = event.getY(pointer)
+      pressure[i] = event.getPressure(pointer)
+      i++
+    }
+  }
+
+  override fun toString(): String {
+    return "TouchSamples(action=$action, actionIndex=$actionIndex, " +
+        "pointerCount=$pointerCount, sampleCount=$sampleCount)"
+  }
+}
+
+private class ViewTouchSamplesObservable(
+  private val view: View,
+  private val handled: (MotionEvent) -> Boolean
+) : Observable<TouchSamples>() {
+
+  override fun subscribeActual(downstream: Observer<in TouchSamples>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, handled, observer)
+    observer.onSubscribe(listener)
+    TouchMultiplexer.add(view, listener)
+  }
+
+  private class Listener(
+    private val view: View,
+    private val handled: (MotionEvent) -> Boolean,
+    private val observer: Observer<in TouchSamples>
+  ) : MainThreadDisposable(), OnTouchListener {
+    private val samples = TouchSamples()
+
+    override fun onTouch(v: View, event: MotionEvent): Boolean {
+      if (!isDisposed) {
+        try {
+          if (handled(event)) {
+            samples.set(event)
+            observer.onNext(samples)
+            return true
+          }
+        } catch (e: Exception) {
+          observer.onError(e)
+          dispose()
+        }
+      }
+      return false
+    }
+
+    override fun onDispose() {
+      TouchMultiplexer.remove(view, this)
+    }
+  }
+}
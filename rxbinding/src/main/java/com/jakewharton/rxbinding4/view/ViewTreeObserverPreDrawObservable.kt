@@ -13,6 +13,7 @@ import io.reactivex.rxjava3.android.MainThreadDisposable
 import java.util.concurrent.Callable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable for pre-draws on `view`.
@@ -33,7 +34,8 @@ private class ViewTreeObserverPreDrawObservable(
   private val proceedDrawingPass: () -> Boolean
 ) : Observable<Unit>() {
 
-  override fun subscribeActual(observer: Observer<in Unit>) {
+  override fun subscribeActual(downstream: Observer<in Unit>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
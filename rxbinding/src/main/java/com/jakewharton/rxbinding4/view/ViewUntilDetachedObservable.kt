@@ -0,0 +1,91 @@
+@file:JvmName("RxView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.view
+
+import android.os.Looper
+import android.view.View
+import androidx.annotation.CheckResult
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import java.lang.ref.WeakReference
+import java.util.WeakHashMap
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.mainHandler
+
+/**
+ * Create an observable which mirrors this observable until `view` detaches from its window, at
+ * which point this observable is disposed and the created observable completes.
+ *
+ * Use this to scope bindings (of `view` or any of its children) to the lifetime of `view` so
+ * that forgetting to dispose a subscription does not keep `view` and its `Context` reachable.
+ * All observables scoped to the same `view` share a single [View.OnAttachStateChangeListener].
+ *
+ * *Warning:* The created observable keeps a strong reference to `view` until it detaches or the
+ * subscription is disposed. If `view` is not attached when subscribed, the subscription lasts
+ * until `view` is attached and then detached.
+ */
+@CheckResult
+fun <T : Any> Observable<T>.untilDetached(view: View): Observable<T> {
+  return ViewUntilDetachedObservable(this, view)
+}
+
+private class ViewUntilDetachedObservable<T : Any>(
+  private val upstream: Observable<T>,
+  private val view: View
+) : Observable<T>() {
+
+  override fun subscribeActual(observer: Observer<in T>) {
+    if (!checkMainThread(observer)) {
+      return
+    }
+    upstream.takeUntil(sharedDetaches(view)).subscribe(observer)
+  }
+}
+
+/**
+ * One shared `detaches()` listener per view. Only accessed from the main thread.
+ *
+ * Each shared observable strongly references its view, so it is held weakly. Otherwise the
+ * entry would only ever be cleared by the removal in [SharedDetaches]. Subscribers keep the
+ * shared observable reachable while it is in use.
+ */
+private val detaches = WeakHashMap<View, WeakReference<SharedDetaches>>()
+
+private fun sharedDetaches(view: View): Observable<Unit> {
+  val entry = detaches[view]?.get()
+  // A finished entry may still be mapped until its posted removal runs.
+  if (entry != null && !entry.finished) {
+    return entry.observable
+  }
+  val created = SharedDetaches(view)
+  detaches[view] = WeakReference(created)
+  return created.observable
+}
+
+private class SharedDetaches(private val view: View) {
+  /** Set once the shared subscription completes or is disposed. It is never reused after. */
+  @Volatile var finished = false
+
+  val observable: Observable<Unit> = view.detaches()
+      .take(1)
+      // Runs on detach or when the last scoped observable is disposed, which may happen on any
+      // thread.
+      .doFinally {
+        finished = true
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+          remove()
+        } else {
+          mainHandler.post { remove() }
+        }
+      }
+      .share()
+
+  private fun remove() {
+    // A new entry may have replaced this one before a posted removal ran.
+    if (detaches[view]?.get() === this) {
+      detaches.remove(view)
+    }
+  }
+}
@@ -0,0 +1,109 @@
+@file:JvmName("RxAbsListView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.widget
+
+import android.widget.AbsListView
+import androidx.annotation.CheckResult
+import io.reactivex.rxjava3.core.Observable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
+
+/**
+ * Create an observable of scroll events on `absListView` which does not allocate per event.
+ *
+ * *Warning:* Values emitted by this observable are **mutable** and the same instance is
+ * re-emitted for every event of a subscription and thus are **not safe** to cache or delay
+ * reading (such as by observing on a different thread). If you want to cache or delay reading
+ * the items emitted then you must map values through [MutableAbsListViewScrollEvent.toImmutable]
+ * to create a copy.
+ *
+ * *Warning:* The created observable keeps a strong reference to `absListView`.
+ * Unsubscribe to free this reference.
+ *
+ * *Note:* The created observable uses [AbsListView.setOnScrollListener] to observe scroll
+ * changes. Any number of observables and sources can be subscribed for a view at a time and
+ * will share that listener.
+ */
+@CheckResult
+fun AbsListView.mutableScrollEvents(): Observable<MutableAbsListViewScrollEvent> {
+  return AbsListViewMutableScrollEventObservable(this)
+}
+
+/**
+ * A scroll event on an absListView whose instance is reused for every event of a subscription.
+ */
+class MutableAbsListViewScrollEvent internal constructor(
+  /** The view from which this event occurred.  */
+  val view: AbsListView
+) {
+  var scrollState: Int = AbsListView.OnScrollListener.SCROLL_STATE_IDLE
+    internal set
+  var firstVisibleItem: Int = 0
+    internal set
+  var visibleItemCount: Int = 0
+    internal set
+  var totalItemCount: Int = 0
+    internal set
+
+  /** Create an immutable copy of the current values. */
+  fun toImmutable() =
+      AbsListViewScrollEvent(view, scrollState, firstVisibleItem, visibleItemCount, totalItemCount)
+
+  override fun toString(): String {
+    return "MutableAbsListViewScrollEvent(view=$view, scrollState=$scrollState, " +
+        "firstVisibleItem=$firstVisibleItem, visibleItemCount=$visibleItemCount, " +
+        "totalItemCount=$totalItemCount)"
+  }
+}
+
+private class AbsListViewMutableScrollEventObservable(
+  private val view: AbsListView
+) : Observable<MutableAbsListViewScrollEvent>() {
+
+  override fun subscribeActual(downstream: Observer<in MutableAbsListViewScrollEvent>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    AbsListViewScrollMultiplexer.add(view, listener)
+  }
+
+  private class Listener(
+    private val view: AbsListView,
+    private val observer: Observer<in MutableAbsListViewScrollEvent>
+  ) : MainThreadDisposable(), AbsListView.OnScrollListener {
+    private val event = MutableAbsListViewScrollEvent(view)
+
+    override fun onScrollStateChanged(absListView: AbsListView, scrollState: Int) {
+      event.scrollState = scrollState
+      if (!isDisposed) {
+        event.firstVisibleItem = view.firstVisiblePosition
+        event.visibleItemCount = view.childCount
+        event.totalItemCount = view.count
+        observer.onNext(event)
+      }
+    }
+
+    override fun onScroll(
+      absListView: AbsListView, firstVisibleItem: Int, visibleItemCount: Int,
+      totalItemCount: Int
+    ) {
+      if (!isDisposed) {
+        event.firstVisibleItem = firstVisibleItem
+        event.visibleItemCount = visibleItemCount
+        event.totalItemCount = totalItemCount
+        observer.onNext(event)
+      }
+    }
+
+    override fun onDispose() {
+      AbsListViewScrollMultiplexer.remove(view, this)
+    }
+  }
+}
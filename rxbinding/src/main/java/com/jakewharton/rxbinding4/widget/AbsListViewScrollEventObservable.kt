@@ -10,6 +10,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of scroll events on `absListView`.
@@ -17,9 +18,9 @@ import com.jakewharton.rxbinding4.internal.checkMainThread
  * *Warning:* The created observable keeps a strong reference to `absListView`.
  * Unsubscribe to free this reference.
  *
- * *Warning:* The created observable uses
- * [AbsListView.setOnScrollListener] to observe scroll
- * changes. Only one observable can be used for a view at a time.
+ * *Note:* The created observable uses [AbsListView.setOnScrollListener] to observe scroll
+ * changes. Any number of observables and sources can be subscribed for a view at a time and
+ * will share that listener.
  */
 @CheckResult
 fun AbsListView.scrollEvents(): Observable<AbsListViewScrollEvent> {
@@ -39,13 +40,14 @@ private class AbsListViewScrollEventObservable(
   private val view: AbsListView
 ) : Observable<AbsListViewScrollEvent>() {
 
-  override fun subscribeActual(observer: Observer<in AbsListViewScrollEvent>) {
+  override fun subscribeActual(downstream: Observer<in AbsListViewScrollEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
     val listener = Listener(view, observer)
     observer.onSubscribe(listener)
-    view.setOnScrollListener(listener)
+    AbsListViewScrollMultiplexer.add(view, listener)
   }
 
   private class Listener(
@@ -75,7 +77,7 @@ private class AbsListViewScrollEventObservable(
     }
 
     override fun onDispose() {
-      view.setOnScrollListener(null)
+      AbsListViewScrollMultiplexer.remove(view, this)
     }
   }
 }
@@ -0,0 +1,35 @@
+package com.jakewharton.rxbinding4.widget
+
+import android.widget.AbsListView
+import android.widget.AbsListView.OnScrollListener
+import com.jakewharton.rxbinding4.internal.ListenerMultiplexer
+import com.jakewharton.rxbinding4.internal.Listeners
+
+internal object AbsListViewScrollMultiplexer :
+    ListenerMultiplexer<AbsListView, OnScrollListener>() {
+  override fun setListener(view: AbsListView, listener: OnScrollListener?) {
+    view.setOnScrollListener(listener)
+  }
+
+  override fun createDispatcher(listeners: Listeners<OnScrollListener>): OnScrollListener {
+    return object : OnScrollListener {
+      override fun onScrollStateChanged(view: AbsListView, scrollState: Int) {
+        for (listener in listeners.snapshot()) {
+          (listener as OnScrollListener).onScrollStateChanged(view, scrollState)
+        }
+      }
+
+      override fun onScroll(
+        view: AbsListView,
+        firstVisibleItem: Int,
+        visibleItemCount: Int,
+        totalItemCount: Int
+      ) {
+        for (listener in listeners.snapshot()) {
+          (listener as OnScrollListener).onScroll(view, firstVisibleItem, visibleItemCount,
+              totalItemCount)
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+@file:JvmName("RxAbsListView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.widget
+
+import android.view.View
+import android.view.animation.AnimationUtils
+import android.widget.AbsListView
+import android.widget.AbsListView.OnScrollListener.SCROLL_STATE_IDLE
+import androidx.annotation.CheckResult
+import com.jakewharton.rxbinding4.FloatObservable
+import com.jakewharton.rxbinding4.FloatObserver
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
+
+import com.jakewharton.rxbinding4.internal.VelocityEstimator
+
+/**
+ * Create a source of the scroll velocity of `absListView` in pixels per second which delivers
+ * values without boxing.
+ *
+ * The velocity is derived from the movement of the visible children and averaged over recent
+ * scroll events to smooth irregular event timing. A value of zero is delivered when scrolling
+ * stops.
+ *
+ * *Warning:* The created source keeps a strong reference to `absListView`. Dispose
+ * to free this reference.
+ *
+ * *Note:* The created source uses [AbsListView.setOnScrollListener] to observe scroll
+ * changes. Any number of observables and sources can be subscribed for a view at a time and
+ * will share that listener.
+ */
+@CheckResult
+fun AbsListView.scrollVelocities(): FloatObservable {
+  return AbsListViewScrollVelocityObservable(this)
+}
+
+private class AbsListViewScrollVelocityObservable(
+  private val view: AbsListView
+) : FloatObservable() {
+
+  override fun subscribeActual(observer: FloatObserver): Disposable {
+    val listener = Listener(view, observer)
+    AbsListViewScrollMultiplexer.add(view, listener)
+    return listener
+  }
+
+  private class Listener(
+    private val view: AbsListView,
+    private val observer: FloatObserver
+  ) : MainThreadDisposable(), AbsListView.OnScrollListener {
+    private val estimator = VelocityEstimator()
+    private var lastFirstPosition = -1
+    private var lastFirstTop = 0
+    private var lastLastPosition = -1
+    private var lastLastTop = 0
+
+    override fun onScrollStateChanged(absListView: AbsListView, scrollState: Int) {
+      if (!isDisposed && scrollState == SCROLL_STATE_IDLE) {
+        estimator.reset()
+        observer.onNext(0f)
+      }
+    }
+
+    override fun onScroll(
+      absListView: AbsListView,
+      firstVisibleItem: Int,
+      visibleItemCount: Int,
+      totalItemCount: Int
+    ) {
+      val childCount = view.childCount
+      if (childCount == 0) {
+        return
+      }
+      // Measure against a child which was visible last time and still is. When scrolling towards
+      // the end the previously-first child is often gone, but the previously-last one remains.
+      val previousFirst = childAt(lastFirstPosition, firstVisibleItem, childCount)
+      val previousLast = childAt(lastLastPosition, firstVisibleItem, childCount)
+      val delta = when {
+        previousFirst != null -> lastFirstTop - previousFirst.top
+        previousLast != null -> lastLastTop - previousLast.top
+        else -> 0 // Jumped by more than a screen. There is nothing to measure against.
+      }
+      lastFirstPosition = firstVisibleItem
+      lastFirstTop = view.getChildAt(0).top
+      lastLastPosition = firstVisibleItem + childCount - 1
+      lastLastTop = view.getChildAt(childCount - 1).top
+
+      if (!isDisposed && delta != 0) {
+        val time = AnimationUtils.currentAnimationTimeMillis()
+        observer.onNext(estimator.add(time, delta.toFloat()))
+      }
+    }
+
+    private fun childAt(position: Int, firstVisibleItem: Int, childCount: Int): View? {
+      val index = position - firstVisibleItem
+      return if (position != -1 && index in 0 until childCount) view.getChildAt(index) else null
+    }
+
+    override fun onDispose() {
+      AbsListViewScrollMultiplexer.remove(view, this)
+    }
+  }
+}
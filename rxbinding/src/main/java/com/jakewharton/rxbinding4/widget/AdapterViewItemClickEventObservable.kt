@@ -13,6 +13,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of the item click events for `view`.
@@ -37,7 +38,8 @@ private class AdapterViewItemClickEventObservable(
   private val view: AdapterView<*>
 ) : Observable<AdapterViewItemClickEvent>() {
 
-  override fun subscribeActual(observer: Observer<in AdapterViewItemClickEvent>) {
+  override fun subscribeActual(downstream: Observer<in AdapterViewItemClickEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -8,11 +8,16 @@ import android.widget.Adapter
 import android.widget.AdapterView
 import android.widget.AdapterView.OnItemClickListener
 import androidx.annotation.CheckResult
+import com.jakewharton.rxbinding4.IntObservable
+import com.jakewharton.rxbinding4.IntObserver
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
+import java.lang.ref.WeakReference
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of the position of item clicks for `view`.
@@ -30,7 +35,8 @@ private class AdapterViewItemClickObservable(
   private val view: AdapterView<*>
 ) : Observable<Int>() {
 
-  override fun subscribeActual(observer: Observer<in Int>) {
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -55,3 +61,89 @@ private class AdapterViewItemClickObservable(
     }
   }
 }
+
+/**
+ * Create a source of the position of item clicks for `view` which delivers values without
+ * boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ */
+@CheckResult
+fun <T : Adapter> AdapterView<T>.primitiveItemClicks(): IntObservable {
+  return AdapterViewPrimitiveItemClickObservable(this)
+}
+
+private class AdapterViewPrimitiveItemClickObservable(
+  private val view: AdapterView<*>
+) : IntObservable() {
+
+  override fun subscribeActual(observer: IntObserver): Disposable {
+    val listener = Listener(view, observer)
+    view.onItemClickListener = listener
+    return listener
+  }
+
+  private class Listener(
+    private val view: AdapterView<*>,
+    private val observer: IntObserver
+  ) : MainThreadDisposable(), OnItemClickListener {
+
+    override fun onItemClick(adapterView: AdapterView<*>, view: View?, position: Int, id: Long) {
+      if (!isDisposed) {
+        observer.onNext(position)
+      }
+    }
+
+    override fun onDispose() {
+      view.onItemClickListener = null
+    }
+  }
+}
+
+/**
+ * Create an observable of the position of item clicks for `view`.
+ *
+ * Unlike [itemClicks], neither the created observable nor its subscriptions keep a strong
+ * reference to `view`. A subscription which outlives `view` does not keep it or its `Context`
+ * reachable.
+ */
+@CheckResult
+fun <T : Adapter> AdapterView<T>.weakItemClicks(): Observable<Int> {
+  return AdapterViewWeakItemClickObservable(WeakReference(this))
+}
+
+private class AdapterViewWeakItemClickObservable(
+  private val view: WeakReference<AdapterView<*>>
+) : Observable<Int>() {
+
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
+    if (!checkMainThread(observer)) {
+      return
+    }
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.get()?.onItemClickListener = listener
+  }
+
+  private class Listener(
+    private val view: WeakReference<AdapterView<*>>,
+    private val observer: Observer<in Int>
+  ) : MainThreadDisposable(), OnItemClickListener {
+
+    override fun onItemClick(adapterView: AdapterView<*>, view: View?, position: Int, id: Long) {
+      if (!isDisposed) {
+        observer.onNext(position)
+      }
+    }
+
+    override fun onDispose() {
+      val view = view.get() ?: return
+      // Only clear the listener if it was not replaced since subscribing.
+      if (view.onItemClickListener === this) {
+        view.onItemClickListener = null
+      }
+    }
+  }
+}
@@ -14,6 +14,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of the item long-click events for `view`.
@@ -45,7 +46,8 @@ private class AdapterViewItemLongClickEventObservable(
   private val handled: (AdapterViewItemLongClickEvent) -> Boolean
 ) : Observable<AdapterViewItemLongClickEvent>() {
 
-  override fun subscribeActual(observer: Observer<in AdapterViewItemLongClickEvent>) {
+  override fun subscribeActual(downstream: Observer<in AdapterViewItemLongClickEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -15,6 +15,7 @@ import io.reactivex.rxjava3.android.MainThreadDisposable
 import java.util.concurrent.Callable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of the position of item long-clicks for `view`.
@@ -38,7 +39,8 @@ private class AdapterViewItemLongClickObservable(
   private val handled: () -> Boolean
 ) : Observable<Int>() {
 
-  override fun subscribeActual(observer: Observer<in Int>) {
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
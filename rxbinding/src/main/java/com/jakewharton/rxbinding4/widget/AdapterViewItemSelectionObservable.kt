@@ -8,8 +8,11 @@ import android.widget.Adapter
 import android.widget.AdapterView
 import android.widget.AdapterView.OnItemSelectedListener
 import com.jakewharton.rxbinding4.InitialValueObservable
+import com.jakewharton.rxbinding4.IntObservable
+import com.jakewharton.rxbinding4.IntObserver
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
 
 import android.widget.AdapterView.INVALID_POSITION
 import androidx.annotation.CheckResult
@@ -66,3 +69,51 @@ private class AdapterViewItemSelectionObservable(
     }
   }
 }
+
+/**
+ * Create a source of the selected position of `view` which delivers values without boxing. If
+ * nothing is selected, [AdapterView.INVALID_POSITION] will be emitted.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* Unlike [itemSelections], no value is emitted on subscribe. Read
+ * [AdapterView.getSelectedItemPosition] for the current value.
+ */
+@CheckResult
+fun <T : Adapter> AdapterView<T>.primitiveItemSelections(): IntObservable {
+  return AdapterViewPrimitiveItemSelectionObservable(this)
+}
+
+private class AdapterViewPrimitiveItemSelectionObservable(
+  private val view: AdapterView<*>
+) : IntObservable() {
+
+  override fun subscribeActual(observer: IntObserver): Disposable {
+    val listener = Listener(view, observer)
+    view.onItemSelectedListener = listener
+    return listener
+  }
+
+  private class Listener(
+    private val view: AdapterView<*>,
+    private val observer: IntObserver
+  ) : MainThreadDisposable(), OnItemSelectedListener {
+
+    override fun onItemSelected(adapterView: AdapterView<*>, view: View?, position: Int, id: Long) {
+      if (!isDisposed) {
+        observer.onNext(position)
+      }
+    }
+
+    override fun onNothingSelected(adapterView: AdapterView<*>) {
+      if (!isDisposed) {
+        observer.onNext(INVALID_POSITION)
+      }
+    }
+
+    override fun onDispose() {
+      view.onItemSelectedListener = null
+    }
+  }
+}
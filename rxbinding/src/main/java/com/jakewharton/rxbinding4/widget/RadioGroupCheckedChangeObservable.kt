@@ -7,8 +7,11 @@ import android.widget.RadioGroup
 import android.widget.RadioGroup.OnCheckedChangeListener
 import androidx.annotation.CheckResult
 import com.jakewharton.rxbinding4.InitialValueObservable
+import com.jakewharton.rxbinding4.IntObservable
+import com.jakewharton.rxbinding4.IntObserver
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
 
@@ -58,3 +61,47 @@ private class RadioGroupCheckedChangeObservable(
     }
   }
 }
+
+/**
+ * Create a source of the checked view ID changes in `view` which delivers values without
+ * boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* Unlike [checkedChanges], no value is emitted on subscribe. Read
+ * [RadioGroup.getCheckedRadioButtonId] for the current value.
+ */
+@CheckResult
+fun RadioGroup.primitiveCheckedChanges(): IntObservable {
+  return RadioGroupPrimitiveCheckedChangeObservable(this)
+}
+
+private class RadioGroupPrimitiveCheckedChangeObservable(
+  private val view: RadioGroup
+) : IntObservable() {
+
+  override fun subscribeActual(observer: IntObserver): Disposable {
+    val listener = Listener(view, observer)
+    view.setOnCheckedChangeListener(listener)
+    return listener
+  }
+
+  private class Listener(
+    private val view: RadioGroup,
+    private val observer: IntObserver
+  ) : MainThreadDisposable(), OnCheckedChangeListener {
+    private var lastChecked = view.checkedRadioButtonId
+
+    override fun onCheckedChanged(radioGroup: RadioGroup, checkedId: Int) {
+      if (!isDisposed && checkedId != lastChecked) {
+        lastChecked = checkedId
+        observer.onNext(checkedId)
+      }
+    }
+
+    override fun onDispose() {
+      view.setOnCheckedChangeListener(null)
+    }
+  }
+}
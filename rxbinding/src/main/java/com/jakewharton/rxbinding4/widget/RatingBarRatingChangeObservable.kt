@@ -6,9 +6,12 @@ package com.jakewharton.rxbinding4.widget
 import android.widget.RatingBar
 import android.widget.RatingBar.OnRatingBarChangeListener
 import androidx.annotation.CheckResult
+import com.jakewharton.rxbinding4.FloatObservable
+import com.jakewharton.rxbinding4.FloatObserver
 import com.jakewharton.rxbinding4.InitialValueObservable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
 
@@ -56,3 +59,44 @@ private class RatingBarRatingChangeObservable(
     }
   }
 }
+
+/**
+ * Create a source of the rating changes on `view` which delivers values without boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* Unlike [ratingChanges], no value is emitted on subscribe. Read [RatingBar.getRating]
+ * for the current value.
+ */
+@CheckResult
+fun RatingBar.primitiveRatingChanges(): FloatObservable {
+  return RatingBarPrimitiveRatingChangeObservable(this)
+}
+
+private class RatingBarPrimitiveRatingChangeObservable(
+  private val view: RatingBar
+) : FloatObservable() {
+
+  override fun subscribeActual(observer: FloatObserver): Disposable {
+    val listener = Listener(view, observer)
+    view.onRatingBarChangeListener = listener
+    return listener
+  }
+
+  private class Listener(
+    private val view: RatingBar,
+    private val observer: FloatObserver
+  ) : MainThreadDisposable(), OnRatingBarChangeListener {
+
+    override fun onRatingChanged(ratingBar: RatingBar, rating: Float, fromUser: Boolean) {
+      if (!isDisposed) {
+        observer.onNext(rating)
+      }
+    }
+
+    override fun onDispose() {
+      view.onRatingBarChangeListener = null
+    }
+  }
+}
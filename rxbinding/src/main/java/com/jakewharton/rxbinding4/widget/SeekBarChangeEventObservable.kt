@@ -18,6 +18,9 @@ import com.jakewharton.rxbinding4.internal.checkMainThread
  * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
  * to free this reference.
  *
+ * *Note:* The created observable uses [SeekBar.setOnSeekBarChangeListener] to observe changes.
+ * Any number of observables can be subscribed for a view at a time and will share that listener.
+ *
  * *Note:* A value will be emitted immediately on subscribe.
  */
 @CheckResult
@@ -34,7 +37,7 @@ private class SeekBarChangeEventObservable(
       return
     }
     val listener = Listener(view, observer)
-    view.setOnSeekBarChangeListener(listener)
+    SeekBarChangeMultiplexer.add(view, listener)
     observer.onSubscribe(listener)
   }
 
@@ -64,7 +67,7 @@ private class SeekBarChangeEventObservable(
     }
 
     override fun onDispose() {
-      view.setOnSeekBarChangeListener(null)
+      SeekBarChangeMultiplexer.remove(view, this)
     }
   }
 }
@@ -0,0 +1,36 @@
+package com.jakewharton.rxbinding4.widget
+
+import android.widget.SeekBar
+import android.widget.SeekBar.OnSeekBarChangeListener
+import com.jakewharton.rxbinding4.internal.ListenerMultiplexer
+import com.jakewharton.rxbinding4.internal.Listeners
+
+internal object SeekBarChangeMultiplexer : ListenerMultiplexer<SeekBar, OnSeekBarChangeListener>() {
+  override fun setListener(view: SeekBar, listener: OnSeekBarChangeListener?) {
+    view.setOnSeekBarChangeListener(listener)
+  }
+
+  override fun createDispatcher(
+    listeners: Listeners<OnSeekBarChangeListener>
+  ): OnSeekBarChangeListener {
+    return object : OnSeekBarChangeListener {
+      override fun onProgressChanged(seekBar: SeekBar, progress: Int, fromUser: Boolean) {
+        for (listener in listeners.snapshot()) {
+          (listener as OnSeekBarChangeListener).onProgressChanged(seekBar, progress, fromUser)
+        }
+      }
+
+      override fun onStartTrackingTouch(seekBar: SeekBar) {
+        for (listener in listeners.snapshot()) {
+          (listener as OnSeekBarChangeListener).onStartTrackingTouch(seekBar)
+        }
+      }
+
+      override fun onStopTrackingTouch(seekBar: SeekBar) {
+        for (listener in listeners.snapshot()) {
+          (listener as OnSeekBarChangeListener).onStopTrackingTouch(seekBar)
+        }
+      }
+    }
+  }
+}
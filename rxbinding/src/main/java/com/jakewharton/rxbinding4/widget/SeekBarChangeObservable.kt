@@ -7,8 +7,11 @@ import android.widget.SeekBar
 import android.widget.SeekBar.OnSeekBarChangeListener
 import androidx.annotation.CheckResult
 import com.jakewharton.rxbinding4.InitialValueObservable
+import com.jakewharton.rxbinding4.IntObservable
+import com.jakewharton.rxbinding4.IntObserver
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
+import io.reactivex.rxjava3.disposables.Disposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
 
@@ -18,6 +21,9 @@ import com.jakewharton.rxbinding4.internal.checkMainThread
  * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
  * to free this reference.
  *
+ * *Note:* The created observable uses [SeekBar.setOnSeekBarChangeListener] to observe changes.
+ * Any number of observables can be subscribed for a view at a time and will share that listener.
+ *
  * *Note:* A value will be emitted immediately on subscribe.
  */
 @CheckResult
@@ -32,6 +38,9 @@ fun SeekBar.changes(): InitialValueObservable<Int> {
  * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
  * to free this reference.
  *
+ * *Note:* The created observable uses [SeekBar.setOnSeekBarChangeListener] to observe changes.
+ * Any number of observables can be subscribed for a view at a time and will share that listener.
+ *
  * *Note:* A value will be emitted immediately on subscribe.
  */
 @CheckResult
@@ -46,6 +55,9 @@ fun SeekBar.userChanges(): InitialValueObservable<Int> {
  * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
  * to free this reference.
  *
+ * *Note:* The created observable uses [SeekBar.setOnSeekBarChangeListener] to observe changes.
+ * Any number of observables can be subscribed for a view at a time and will share that listener.
+ *
  * *Note:* A value will be emitted immediately on subscribe.
  */
 @CheckResult
@@ -63,7 +75,7 @@ private class SeekBarChangeObservable(
       return
     }
     val listener = Listener(view, shouldBeFromUser, observer)
-    view.setOnSeekBarChangeListener(listener)
+    SeekBarChangeMultiplexer.add(view, listener)
     observer.onSubscribe(listener)
   }
 
@@ -86,7 +98,84 @@ private class SeekBarChangeObservable(
     override fun onStopTrackingTouch(seekBar: SeekBar) {}
 
     override fun onDispose() {
-      view.setOnSeekBarChangeListener(null)
+      SeekBarChangeMultiplexer.remove(view, this)
+    }
+  }
+}
+
+/**
+ * Create a source of progress value changes on `view` which delivers values without boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* Unlike [changes], no value is emitted on subscribe. Read [SeekBar.getProgress] for
+ * the current value.
+ */
+@CheckResult
+fun SeekBar.primitiveChanges(): IntObservable {
+  return SeekBarPrimitiveChangeObservable(this, null)
+}
+
+/**
+ * Create a source of progress value changes on `view` that were made only from the user which
+ * delivers values without boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* Unlike [userChanges], no value is emitted on subscribe. Read [SeekBar.getProgress] for
+ * the current value.
+ */
+@CheckResult
+fun SeekBar.primitiveUserChanges(): IntObservable {
+  return SeekBarPrimitiveChangeObservable(this, true)
+}
+
+/**
+ * Create a source of progress value changes on `view` that were made only from the system which
+ * delivers values without boxing.
+ *
+ * *Warning:* The created source keeps a strong reference to `view`. Dispose
+ * to free this reference.
+ *
+ * *Note:* Unlike [systemChanges], no value is emitted on subscribe. Read [SeekBar.getProgress]
+ * for the current value.
+ */
+@CheckResult
+fun SeekBar.primitiveSystemChanges(): IntObservable {
+  return SeekBarPrimitiveChangeObservable(this, false)
+}
+
+private class SeekBarPrimitiveChangeObservable(
+  private val view: SeekBar,
+  private val shouldBeFromUser: Boolean?
+) : IntObservable() {
+
+  override fun subscribeActual(observer: IntObserver): Disposable {
+    val listener = Listener(view, shouldBeFromUser, observer)
+    SeekBarChangeMultiplexer.add(view, listener)
+    return listener
+  }
+
+  private class Listener(
+    private val view: SeekBar,
+    private val shouldBeFromUser: Boolean?,
+    private val observer: IntObserver
+  ) : MainThreadDisposable(), OnSeekBarChangeListener {
+
+    override fun onProgressChanged(seekBar: SeekBar, progress: Int, fromUser: Boolean) {
+      if (!isDisposed && (shouldBeFromUser == null || shouldBeFromUser == fromUser)) {
+        observer.onNext(progress)
+      }
+    }
+
+    override fun onStartTrackingTouch(seekBar: SeekBar) {}
+
+    override fun onStopTrackingTouch(seekBar: SeekBar) {}
+
+    override fun onDispose() {
+      SeekBarChangeMultiplexer.remove(view, this)
     }
   }
 }
@@ -12,6 +12,8 @@ import com.jakewharton.rxbinding4.InitialValueObservable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
+import com.jakewharton.rxbinding4.internal.mainHandler
+
 /**
  * Create an observable of after text change events for `view`.
  *
@@ -75,3 +77,76 @@ private class TextViewAfterTextChangeEventObservable(
     }
   }
 }
+
+/**
+ * Create an observable of after text change events for `view` which emits at most once per
+ * main-looper message.
+ *
+ * Input methods change text several times per logical edit (e.g., replacing a composing span
+ * and then committing it). Rather than emitting for each change, changes are coalesced and a
+ * single event is emitted after the current message, and any already queued by the input
+ * method, have been handled.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* A value will be emitted immediately on subscribe using
+ * [TextView.getEditableText].
+ */
+@CheckResult
+fun TextView.coalescedAfterTextChangeEvents():
+    InitialValueObservable<TextViewAfterTextChangeEvent> {
+  return TextViewCoalescedAfterTextChangeEventObservable(this)
+}
+
+private class TextViewCoalescedAfterTextChangeEventObservable(
+  private val view: TextView
+) : InitialValueObservable<TextViewAfterTextChangeEvent>() {
+
+  override fun subscribeListener(observer: Observer<in TextViewAfterTextChangeEvent>) {
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.addTextChangedListener(listener)
+  }
+
+  override val initialValue get() = TextViewAfterTextChangeEvent(view, view.editableText)
+
+  private class Listener(
+    private val view: TextView,
+    private val observer: Observer<in TextViewAfterTextChangeEvent>
+  ) : MainThreadDisposable(), TextWatcher, Runnable {
+    private var pending: Editable? = null
+
+    override fun beforeTextChanged(
+      charSequence: CharSequence,
+      start: Int,
+      count: Int,
+      after: Int
+    ) {
+    }
+
+    override fun onTextChanged(charSequence: CharSequence, start: Int, before: Int, count: Int) {
+    }
+
+    override fun afterTextChanged(s: Editable) {
+      if (pending == null && !isDisposed) {
+        mainHandler.post(this)
+      }
+      pending = s
+    }
+
+    override fun run() {
+      val editable = pending
+      pending = null
+      if (editable != null && !isDisposed) {
+        observer.onNext(TextViewAfterTextChangeEvent(view, editable))
+      }
+    }
+
+    override fun onDispose() {
+      view.removeTextChangedListener(this)
+      mainHandler.removeCallbacks(this)
+      pending = null
+    }
+  }
+}
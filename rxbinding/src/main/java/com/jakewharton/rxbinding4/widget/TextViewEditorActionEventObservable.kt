@@ -13,6 +13,7 @@ import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 
 /**
  * Create an observable of editor action events on `view`.
@@ -46,7 +47,8 @@ private class TextViewEditorActionEventObservable(
   private val handled: (TextViewEditorActionEvent) -> Boolean
 ) : Observable<TextViewEditorActionEvent>() {
 
-  override fun subscribeActual(observer: Observer<in TextViewEditorActionEvent>) {
+  override fun subscribeActual(downstream: Observer<in TextViewEditorActionEvent>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -9,6 +9,7 @@ import android.widget.TextView.OnEditorActionListener
 import androidx.annotation.CheckResult
 import com.jakewharton.rxbinding4.internal.AlwaysTrue
 import com.jakewharton.rxbinding4.internal.checkMainThread
+import com.jakewharton.rxbinding4.internal.instrument
 import io.reactivex.rxjava3.core.Observable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
@@ -36,7 +37,8 @@ private class TextViewEditorActionObservable(
   private val handled: (Int) -> Boolean
 ) : Observable<Int>() {
 
-  override fun subscribeActual(observer: Observer<in Int>) {
+  override fun subscribeActual(downstream: Observer<in Int>) {
+    val observer = instrument(this, downstream)
     if (!checkMainThread(observer)) {
       return
     }
@@ -11,6 +11,8 @@ import com.jakewharton.rxbinding4.InitialValueObservable
 import io.reactivex.rxjava3.core.Observer
 import io.reactivex.rxjava3.android.MainThreadDisposable
 
+import com.jakewharton.rxbinding4.internal.mainHandler
+
 /**
  * Create an observable of character sequences for text changes on `view`.
  *
@@ -65,3 +67,73 @@ private class TextViewTextChangesObservable(
     }
   }
 }
+
+/**
+ * Create an observable of character sequences for text changes on `view` which emits at most
+ * once per main-looper message.
+ *
+ * Input methods change text several times per logical edit (e.g., replacing a composing span
+ * and then committing it). Rather than emitting for each change, changes are coalesced and the
+ * current text is emitted after the current message, and any already queued by the input
+ * method, have been handled.
+ *
+ * *Warning:* Values emitted by this observable are **mutable** and owned by the host
+ * `TextView` and thus are **not safe** to cache or delay reading (such as by observing
+ * on a different thread). If you want to cache or delay reading the items emitted then you must
+ * map values through a function which calls [String.valueOf] or
+ * [.toString()][CharSequence.toString] to create a copy.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* A value will be emitted immediately on subscribe.
+ */
+@CheckResult
+fun TextView.coalescedTextChanges(): InitialValueObservable<CharSequence> {
+  return TextViewCoalescedTextChangesObservable(this)
+}
+
+private class TextViewCoalescedTextChangesObservable(
+  private val view: TextView
+) : InitialValueObservable<CharSequence>() {
+
+  override fun subscribeListener(observer: Observer<in CharSequence>) {
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.addTextChangedListener(listener)
+  }
+
+  override val initialValue get() = view.text
+
+  private class Listener(
+    private val view: TextView,
+    private val observer: Observer<in CharSequence>
+  ) : MainThreadDisposable(), TextWatcher, Runnable {
+    private var pending = false
+
+    override fun beforeTextChanged(s: CharSequence, start: Int, count: Int, after: Int) {
+    }
+
+    override fun onTextChanged(s: CharSequence, start: Int, before: Int, count: Int) {
+      if (!pending && !isDisposed) {
+        pending = true
+        mainHandler.post(this)
+      }
+    }
+
+    override fun afterTextChanged(s: Editable) {
+    }
+
+    override fun run() {
+      pending = false
+      if (!isDisposed) {
+        observer.onNext(view.text)
+      }
+    }
+
+    override fun onDispose() {
+      view.removeTextChangedListener(this)
+      mainHandler.removeCallbacks(this)
+    }
+  }
+}
@@ -0,0 +1,79 @@
+@file:JvmName("RxTextView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.widget
+
+import android.text.Editable
+import android.text.TextWatcher
+import android.widget.TextView
+import androidx.annotation.CheckResult
+import com.jakewharton.rxbinding4.InitialValueObservable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+
+/**
+ * Create an observable of the edits made to the text of `view`. Applying each edit in order
+ * to a copy of the text keeps that copy equal to the text of `view`, so consumers can update
+ * incrementally rather than re-reading the entire text on each change.
+ *
+ * Unlike [textChanges], emitted values are immutable and only as large as the edit which they
+ * describe. They are safe to cache or to read on a different thread.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* A value which inserts the current text into empty text will be emitted immediately
+ * on subscribe.
+ */
+@CheckResult
+fun TextView.textEdits(): InitialValueObservable<TextViewTextEdit> {
+  return TextViewTextEditObservable(this)
+}
+
+/**
+ * An edit to the text of a view which replaces the [before] characters beginning at [start]
+ * with [inserted].
+ */
+data class TextViewTextEdit(
+  val start: Int,
+  val before: Int,
+  val inserted: String
+)
+
+private class TextViewTextEditObservable(
+  private val view: TextView
+) : InitialValueObservable<TextViewTextEdit>() {
+
+  override val initialValue get() = TextViewTextEdit(0, 0, view.text.toString())
+
+  override fun subscribeListener(observer: Observer<in TextViewTextEdit>) {
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.addTextChangedListener(listener)
+  }
+
+  private class Listener(
+    private val view: TextView,
+    private val observer: Observer<in TextViewTextEdit>
+  ) : MainThreadDisposable(), TextWatcher {
+
+    override fun beforeTextChanged(s: CharSequence, start: Int, count: Int, after: Int) {
+    }
+
+    override fun onTextChanged(s: CharSequence, start: Int, before: Int, count: Int) {
+      if (!isDisposed) {
+        // Copy only the inserted range now. Other watchers may modify the text again before
+        // afterTextChanged is called.
+        val inserted = s.subSequence(start, start + count).toString()
+        observer.onNext(TextViewTextEdit(start, before, inserted))
+      }
+    }
+
+    override fun afterTextChanged(editable: Editable) {
+    }
+
+    override fun onDispose() {
+      view.removeTextChangedListener(this)
+    }
+  }
+}
@@ -0,0 +1,149 @@
+@file:JvmName("RxTextView")
+@file:JvmMultifileClass
+
+package com.jakewharton.rxbinding4.widget
+
+import android.os.Looper
+import android.text.Editable
+import android.text.TextUtils
+import android.text.TextWatcher
+import android.widget.TextView
+import androidx.annotation.CheckResult
+import com.jakewharton.rxbinding4.InitialValueObservable
+import io.reactivex.rxjava3.core.Observer
+import io.reactivex.rxjava3.android.MainThreadDisposable
+import java.lang.ref.WeakReference
+
+/**
+ * Create an observable of immutable snapshots of the text of `view` for text changes.
+ *
+ * Unlike [textChanges], emitted values are safe to cache or to read later or on a different
+ * thread (such as after `observeOn`) without first calling
+ * [.toString()][CharSequence.toString]. A snapshot reads through to the text of `view` until
+ * that text changes again or the snapshot is read from a different thread, and only then copies
+ * the text. Consumers which only read values synchronously on the main thread and do not retain
+ * them usually cause no copies. Snapshots are equal when their text is equal, so
+ * `distinctUntilChanged()` drops changes which leave the text as it was.
+ *
+ * *Warning:* The created observable keeps a strong reference to `view`. Unsubscribe
+ * to free this reference.
+ *
+ * *Note:* A value will be emitted immediately on subscribe.
+ */
+@CheckResult
+fun TextView.textSnapshots(): InitialValueObservable<CharSequence> {
+  return TextViewTextSnapshotsObservable(this)
+}
+
+private class TextViewTextSnapshotsObservable(
+  private val view: TextView
+) : InitialValueObservable<CharSequence>() {
+
+  /** The listener of the subscription whose initial value is read next. */
+  private var subscribing: Listener? = null
+
+  override fun subscribeListener(observer: Observer<in CharSequence>) {
+    val listener = Listener(view, observer)
+    observer.onSubscribe(listener)
+    view.addTextChangedListener(listener)
+    subscribing = listener
+  }
+
+  override val initialValue: CharSequence get() {
+    val listener = subscribing
+    subscribing = null
+    return listener?.snapshot(view.text) ?: view.text.toString()
+  }
+
+  private class Listener(
+    private val view: TextView,
+    private val observer: Observer<in CharSequence>
+  ) : MainThreadDisposable(), TextWatcher {
+    /** Weak so that snapshots which are no longer referenced need not be copied. */
+    private var last: WeakReference<TextSnapshot>? = null
+
+    override fun beforeTextChanged(s: CharSequence, start: Int, count: Int, after: Int) {
+      last?.get()?.detach()
+      last = null
+    }
+
+    override fun onTextChanged(s: CharSequence, start: Int, before: Int, count: Int) {
+      if (!isDisposed) {
+        observer.onNext(snapshot(s))
+      }
+    }
+
+    /** Create a snapshot of `text` which is copied before the next change to it. */
+    fun snapshot(text: CharSequence): CharSequence {
+      last?.get()?.detach()
+      val snapshot = TextSnapshot(text)
+      last = WeakReference(snapshot)
+      return snapshot
+    }
+
+    override fun afterTextChanged(s: Editable) {
+    }
+
+    override fun onDispose() {
+      view.removeTextChangedListener(this)
+      // The text may change after we stop listening.
+      last?.get()?.detach()
+      last = null
+    }
+  }
+}
+
+/**
+ * A read-only view of `live` text which copies it before it changes or when read from a
+ * background thread. `live` is only modified on the main thread after [detach] is called.
+ * Snapshots are equal to other snapshots with the same text.
+ */
+private class TextSnapshot(
+  private var live: CharSequence?
+) : CharSequence {
+  private var copy: String? = null
+
+  /** Copy the live text because it is about to change. */
+  @Synchronized
+  fun detach() {
+    val live = live ?: return
+    copy = live.toString()
+    this.live = null
+  }
+
+  @Synchronized
+  private fun text(): CharSequence {
+    val live = live ?: return copy!!
+    if (Looper.myLooper() == Looper.getMainLooper()) {
+      return live
+    }
+    // The main thread cannot change the text while we hold the lock, since it must first call
+    // detach.
+    val copy = live.toString()
+    this.copy = copy
+    this.live = null
+    return copy
+  }
+
+  override val length get() = text().length
+
+  override fun get(index: Int) = text()[index]
+
+  override fun subSequence(startIndex: Int, endIndex: Int) =
+      text().subSequence(startIndex, endIndex)
+
+  override fun toString() = text().toString()
+
+  override fun equals(other: Any?) =
+      other === this || other is TextSnapshot && TextUtils.equals(text(), other.text())
+
+  /** Same as [String.hashCode] of the text, without copying it. */
+  override fun hashCode(): Int {
+    val text = text()
+    var hash = 0
+    for (i in 0 until text.length) {
+      hash = 31 * hash + text[i].toInt()
+    }
+    return hash
+  }
+}